@@ -0,0 +1,102 @@
+package com.prashant.jobtracker.benchmark;
+
+import com.prashant.jobtracker.security.RefreshTokenStore;
+import com.prashant.jobtracker.security.TokenAuthenticationFilter;
+import com.prashant.jobtracker.security.TokenDenyList;
+import com.prashant.jobtracker.security.TokenService;
+import com.prashant.jobtracker.security.UserPrincipal;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextHolderFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of establishing the caller: the session filter reading the security context
+ * from the HttpSession versus the token filter verifying a signed access token against a deny
+ * list holding 10k revoked ids. Neither touches the database; the session numbers leave out the
+ * session-store round trip a load-balanced deployment would add without sticky sessions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthenticationOverheadBenchmark {
+
+    @Param({"session", "token"})
+    private String mode;
+
+    private Filter filter;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() throws IOException, ServletException {
+        UserPrincipal user = new UserPrincipal(42L, "jane@example.com", "Jane");
+        request = new MockHttpServletRequest("GET", "/jobs");
+
+        if (mode.equals("session")) {
+            MockHttpSession session = new MockHttpSession();
+            session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+                    new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(user, null, List.of())));
+            request.setSession(session);
+            filter = new SecurityContextHolderFilter(new HttpSessionSecurityContextRepository());
+        } else {
+            TokenDenyList denyList = new TokenDenyList();
+            long expiresAt = System.currentTimeMillis() / 1000 + 900;
+            for (int i = 0; i < 10_000; i++)
+                denyList.deny(UUID.randomUUID(), expiresAt);
+            TokenService tokenService = new TokenService(
+                    Base64.getEncoder().encodeToString(new byte[32]), Duration.ofMinutes(15), Duration.ofDays(7),
+                    Jackson2ObjectMapperBuilder.json().build(), denyList, new RefreshTokenStore(null) {
+                        // only the access token is measured; the refresh token is never stored
+                        @Override
+                        public void register(UUID tokenId, Long userId, long expiresAtEpochSecond) {
+                        }
+                    });
+            request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.issue(user).getAccessToken());
+            filter = new TokenAuthenticationFilter(tokenService);
+        }
+
+        if (authenticate() == null)
+            throw new IllegalStateException(mode + " filter did not authenticate the request");
+    }
+
+    @Benchmark
+    public Object authenticate() throws IOException, ServletException {
+        CapturingChain chain = new CapturingChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        SecurityContextHolder.clearContext();
+        // OncePerRequestFilter marks the request; reset so the next invocation filters again
+        request.removeAttribute(TokenAuthenticationFilter.class.getName() + ".FILTERED");
+        return chain.authentication;
+    }
+
+    private static final class CapturingChain implements FilterChain {
+        private Authentication authentication;
+
+        @Override
+        public void doFilter(jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response) {
+            // the deferred session context is resolved here, as the authorization filter would
+            authentication = SecurityContextHolder.getContext().getAuthentication();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.prashant.jobtracker.benchmark;
+
+import com.prashant.jobtracker.JobtrackerApplication;
+import com.prashant.jobtracker.entity.User;
+import com.prashant.jobtracker.repository.UserRepository;
+import com.prashant.jobtracker.security.UserPrincipal;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Boots the application on the in-memory "test" profile for benchmarks that need real beans.
+ */
+final class BenchmarkApp {
+
+    private BenchmarkApp() {
+    }
+
+    static ConfigurableApplicationContext start(Class<?>[] extraSources, String... extraArgs) {
+        return start(WebApplicationType.NONE, extraSources, extraArgs);
+    }
+
+    static ConfigurableApplicationContext start(String... extraArgs) {
+        return start(new Class<?>[0], extraArgs);
+    }
+
+    // embedded Tomcat on a random port, for benchmarks that go through HTTP
+    static ConfigurableApplicationContext startServer(Class<?>[] extraSources, String... extraArgs) {
+        List<String> args = new ArrayList<>(Arrays.asList(extraArgs));
+        args.add("--server.port=0");
+        return start(WebApplicationType.SERVLET, extraSources, args.toArray(String[]::new));
+    }
+
+    static ConfigurableApplicationContext startServer(String... extraArgs) {
+        return startServer(new Class<?>[0], extraArgs);
+    }
+
+    static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    private static ConfigurableApplicationContext start(WebApplicationType type, Class<?>[] extraSources,
+                                                        String... extraArgs) {
+        List<Object> sources = new ArrayList<>();
+        sources.add(JobtrackerApplication.class);
+        sources.addAll(Arrays.asList(extraSources));
+
+        List<String> args = new ArrayList<>();
+        args.add("--spring.profiles.active=test");
+        args.addAll(Arrays.asList(extraArgs));
+
+        return new SpringApplicationBuilder(sources.toArray(Class<?>[]::new))
+                .web(type)
+                .run(args.toArray(String[]::new));
+    }
+
+    static User createUser(ConfigurableApplicationContext context, String email) {
+        User user = new User();
+        user.setName("bench");
+        user.setEmail(email);
+        user.setPassword("x");
+        return context.getBean(UserRepository.class).save(user);
+    }
+
+    // services resolve the caller through the security context, bound to the current thread
+    static void loginAs(User user) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(UserPrincipal.from(user), null, user.getAuthorities()));
+    }
+}
@@ -0,0 +1,56 @@
+package com.prashant.jobtracker.benchmark;
+
+import com.prashant.jobtracker.dto.JobApplicationDTO;
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.entity.enums.JobStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic sample rows shared by the benchmarks so runs are comparable across machines.
+ */
+final class BenchmarkData {
+
+    static final String[] COMPANIES = {"Google", "Amazon", "Microsoft", "Atlassian", "Stripe", "Netflix", "Adobe", "Uber"};
+    static final String[] ROLES = {"Backend Engineer", "Frontend Engineer", "SDE II", "Platform Engineer", "Data Engineer"};
+    static final LocalDate START = LocalDate.of(2020, 1, 1);
+
+    private BenchmarkData() {
+    }
+
+    static JobApplication job(long i) {
+        JobApplication job = new JobApplication();
+        job.setId(i);
+        job.setCompanyName(COMPANIES[(int) (i % COMPANIES.length)]);
+        job.setJobRole(ROLES[(int) (i % ROLES.length)]);
+        job.setJobId("REQ-" + i);
+        job.setResumeUsed("https://res.cloudinary.com/demo/raw/upload/UserService/pdfs/resume-" + (i % 5) + ".pdf");
+        job.setComment(i % 3 == 0 ? "Referred by a friend, follow up after two weeks" : null);
+        job.setStatus(JobStatus.values()[(int) (i % JobStatus.values().length)]);
+        job.setAppliedDate(START.plusDays(i % 2000));
+        return job;
+    }
+
+    static JobApplicationDTO dto(long i) {
+        JobApplication job = job(i);
+        JobApplicationDTO dto = new JobApplicationDTO();
+        dto.setId(job.getId());
+        dto.setCompanyName(job.getCompanyName());
+        dto.setJobRole(job.getJobRole());
+        dto.setJobId(job.getJobId());
+        dto.setResumeUsed(job.getResumeUsed());
+        dto.setComment(job.getComment());
+        dto.setStatus(job.getStatus());
+        dto.setAppliedDate(job.getAppliedDate());
+        return dto;
+    }
+
+    static List<JobApplicationDTO> dtos(int count) {
+        List<JobApplicationDTO> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            list.add(dto(i));
+        return list;
+    }
+}
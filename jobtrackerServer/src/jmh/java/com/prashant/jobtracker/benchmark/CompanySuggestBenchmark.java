@@ -0,0 +1,92 @@
+package com.prashant.jobtracker.benchmark;
+
+import com.prashant.jobtracker.dto.CompanySuggestionDTO;
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.entity.User;
+import com.prashant.jobtracker.service.CompanySuggestionService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Company typeahead for a user with 50k applications to 5000 distinct companies (skewed, so
+ * a few dominate): {@code suggest} is the cached top-10 lookup at increasing prefix length,
+ * {@code rename} the incremental update when one job moves to another company.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompanySuggestBenchmark {
+
+    private static final int ROWS = 50_000;
+    private static final String[] FIRST = {"Cor", "Bri", "Ac", "Dyn", "El", "Fin", "Glo", "Hel", "In", "Jet"};
+    private static final String[] SECOND = {"a", "o", "i", "u", "e", "ya", "ro", "ni", "ta", "ve"};
+    private static final String[] THIRD = {"max", "soft", "labs", "works", "data", "net", "ly", "io", "gen", "tek"};
+    private static final String[] SUFFIX = {"", " Inc", " LLC", " Ltd", " Group"};
+
+    @Param({"c", "co", "cora"})
+    private String prefix;
+
+    private ConfigurableApplicationContext context;
+    private CompanySuggestionService suggestionService;
+    private JobApplication renamed;
+    private int renames;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApp.start();
+        suggestionService = context.getBean(CompanySuggestionService.class);
+        User user = BenchmarkApp.createUser(context, "suggest@example.com");
+        BenchmarkApp.loginAs(user);
+
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (long i = 0; i < ROWS; i++) {
+            JobApplication job = BenchmarkData.job(i);
+            int company = (int) (5000 * Math.pow(random.nextDouble(), 3));
+            rows.add(new Object[]{companyName(company), job.getJobRole(), Date.valueOf(job.getAppliedDate()),
+                    user.getId(), job.getStatus().name()});
+        }
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        jdbc.batchUpdate("insert into job_applications (company_name, job_role, applied_date, user_id, status) "
+                + "values (?, ?, ?, ?, ?)", rows);
+
+        renamed = new JobApplication();
+        renamed.setId(jdbc.queryForObject("select min(id) from job_applications", Long.class));
+        renamed.setUser(user);
+
+        // first call builds the trie, as the first keystroke after startup would
+        suggestionService.suggest(prefix, 10);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<CompanySuggestionDTO> suggest() {
+        return suggestionService.suggest(prefix, 10);
+    }
+
+    @Benchmark
+    public JobApplication rename() {
+        renamed.setCompanyName(companyName(renames++ % 5000));
+        // consecutive versions after the 0 the trie was built at, as this node's own writes would be
+        suggestionService.recordSaved(renamed, renames);
+        return renamed;
+    }
+
+    private static String companyName(int i) {
+        return FIRST[i % 10] + SECOND[i / 10 % 10] + THIRD[i / 100 % 10] + SUFFIX[i / 1000 % 5];
+    }
+}
@@ -0,0 +1,137 @@
+package com.prashant.jobtracker.benchmark;
+
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.entity.User;
+import com.prashant.jobtracker.repository.JobRepository;
+import com.prashant.jobtracker.repository.UserRepository;
+import jakarta.servlet.Filter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link #clients} concurrent GET /jobs requests against the embedded Tomcat, on platform threads
+ * (default pool of 200) or on virtual threads (the "virtual" profile). Every request first blocks
+ * for {@link #blockingMillis} ms, standing in for the network wait of a remote database or storage
+ * call that the in-memory test database doesn't have. A sample is one wave of all clients, so its
+ * time is the slowest request of the wave and clients divided by it is the throughput.
+ * The pool only bounds a wave once clients / 200 * blockingMillis outweighs the CPU time of the
+ * wave itself, hence the long wait next to the short one.
+ * The virtual case needs a Java 21 runtime: build with -Pjava21 -Pbenchmark.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentClientsBenchmark {
+
+    private static final String PASSWORD = "secret1";
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"1000"})
+    private int clients;
+
+    @Param({"50", "1000"})
+    private long blockingMillis;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest listJobs;
+
+    // the application's component scan finds this class in every benchmark; only this one sets the property
+    @Configuration
+    @ConditionalOnProperty("benchmark.blocking-millis")
+    static class BlockingIo {
+        @Bean
+        FilterRegistrationBean<Filter> simulatedBlockingIo(@Value("${benchmark.blocking-millis}") long blockingMillis) {
+            FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>((request, response, chain) -> {
+                try {
+                    Thread.sleep(blockingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                chain.doFilter(request, response);
+            });
+            registration.addUrlPatterns("/jobs");
+            return registration;
+        }
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        if (threads.equals("virtual") && Runtime.version().feature() < 21)
+            throw new IllegalStateException("Virtual threads need Java 21, build with -Pjava21 -Pbenchmark");
+
+        List<String> args = new ArrayList<>(List.of(
+                "--auth.rate-limit.address.capacity=1000000",
+                "--auth.rate-limit.address.refill-per-minute=1000000",
+                "--benchmark.blocking-millis=" + blockingMillis));
+        if (threads.equals("virtual"))
+            args.add("--spring.profiles.active=test,virtual");
+        context = BenchmarkApp.startServer(new Class<?>[]{BlockingIo.class}, args.toArray(String[]::new));
+        String baseUrl = "http://localhost:" + BenchmarkApp.port(context);
+
+        User user = new User();
+        user.setName("bench");
+        user.setEmail("clients@example.com");
+        user.setPassword(new BCryptPasswordEncoder().encode(PASSWORD));
+        user = context.getBean(UserRepository.class).save(user);
+        JobRepository jobs = context.getBean(JobRepository.class);
+        for (int i = 0; i < 10; i++) {
+            JobApplication job = BenchmarkData.job(i);
+            job.setId(null);
+            job.setUser(user);
+            jobs.save(job);
+        }
+
+        client = HttpClient.newBuilder().cookieHandler(new CookieManager()).build();
+        HttpResponse<String> login = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"email\":\"clients@example.com\",\"password\":\"" + PASSWORD + "\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (login.statusCode() != 200)
+            throw new IllegalStateException("Login failed: " + login.body());
+        listJobs = HttpRequest.newBuilder(URI.create(baseUrl + "/jobs?page=0")).GET().build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int wave() {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++)
+            responses.add(client.sendAsync(listJobs, HttpResponse.BodyHandlers.discarding()));
+
+        int ok = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : responses)
+            if (response.join().statusCode() == 200)
+                ok++;
+        if (ok != clients)
+            throw new IllegalStateException((clients - ok) + " of " + clients + " requests failed");
+        return ok;
+    }
+}
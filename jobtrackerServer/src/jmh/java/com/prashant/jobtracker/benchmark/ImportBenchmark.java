@@ -0,0 +1,128 @@
+package com.prashant.jobtracker.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prashant.jobtracker.dto.ImportResult;
+import com.prashant.jobtracker.dto.JobApplicationDTO;
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.entity.User;
+import com.prashant.jobtracker.repository.JobRepository;
+import com.prashant.jobtracker.service.JobImportService;
+import com.prashant.jobtracker.service.impl.JobImportServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One import of {@link #rows} jobs for a fresh user: the streaming CSV and NDJSON paths (JDBC
+ * batches), and as the baseline the same rows saved through the JPA repository, which cannot
+ * batch inserts because job ids are IDENTITY. {@link #roundTripMicros} puts a network between
+ * the application and the in-memory database, which is where batching pays off.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+@State(Scope.Benchmark)
+public class ImportBenchmark {
+
+    @Param({"100000"})
+    private int rows;
+
+    @Param({"0", "200"})
+    private long roundTripMicros;
+
+    private ConfigurableApplicationContext context;
+    private JobImportService importService;
+    private JobRepository jobRepository;
+    private TransactionTemplate transactionTemplate;
+    private byte[] csv;
+    private byte[] ndjson;
+    private User user;
+    private int users;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = BenchmarkApp.start(new Class<?>[]{SimulatedRoundTrips.class},
+                "--benchmark.round-trip-micros=" + roundTripMicros);
+        importService = context.getBean(JobImportService.class);
+        jobRepository = context.getBean(JobRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        StringBuilder csvBody = new StringBuilder("companyName,jobRole,jobId,status,appliedDate,comment\n");
+        ByteArrayOutputStream ndjsonBody = new ByteArrayOutputStream();
+        for (int i = 0; i < rows; i++) {
+            JobApplicationDTO dto = BenchmarkData.dto(i);
+            dto.setId(null);
+            dto.setResumeUsed(null);
+            csvBody.append(dto.getCompanyName()).append(',')
+                    .append(dto.getJobRole()).append(',')
+                    .append(dto.getJobId()).append(',')
+                    .append(dto.getStatus()).append(',')
+                    .append(dto.getAppliedDate()).append(',')
+                    .append(dto.getComment() == null ? "" : '"' + dto.getComment() + '"').append('\n');
+            objectMapper.writeValue(ndjsonBody, dto);
+            ndjsonBody.write('\n');
+        }
+        csv = csvBody.toString().getBytes(StandardCharsets.UTF_8);
+        ndjson = ndjsonBody.toByteArray();
+    }
+
+    @Setup(Level.Invocation)
+    public void freshUser() {
+        user = BenchmarkApp.createUser(context, "import" + (users++) + "@example.com");
+        BenchmarkApp.loginAs(user);
+    }
+
+    // keeps the in-memory database, and so the heap, the same size for every invocation
+    @TearDown(Level.Invocation)
+    public void clearJobs() {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        jdbc.execute("truncate table job_applications");
+        jdbc.execute("truncate table job_stats_counters");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ImportResult csvImport() {
+        return checked(importService.importJobs(new ByteArrayInputStream(csv), JobImportServiceImpl.TEXT_CSV));
+    }
+
+    @Benchmark
+    public ImportResult ndjsonImport() {
+        return checked(importService.importJobs(new ByteArrayInputStream(ndjson), JobImportServiceImpl.APPLICATION_NDJSON));
+    }
+
+    @Benchmark
+    public int jpaSaveAll() {
+        List<JobApplication> jobs = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            JobApplication job = BenchmarkData.job(i);
+            job.setId(null);
+            job.setResumeUsed(null);
+            job.setUser(user);
+            jobs.add(job);
+        }
+        transactionTemplate.executeWithoutResult(status -> jobRepository.saveAll(jobs));
+        return jobs.size();
+    }
+
+    private ImportResult checked(ImportResult result) {
+        if (result.getImported() != rows)
+            throw new IllegalStateException("Imported " + result.getImported() + " of " + rows + ": " + result.getErrors());
+        return result;
+    }
+}
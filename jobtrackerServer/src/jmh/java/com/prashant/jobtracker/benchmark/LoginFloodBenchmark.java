@@ -0,0 +1,159 @@
+package com.prashant.jobtracker.benchmark;
+
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.entity.User;
+import com.prashant.jobtracker.repository.JobRepository;
+import com.prashant.jobtracker.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GET /jobs latency over real HTTP while /auth/login is flooded with wrong passwords for existing
+ * accounts: {@link #FLOOD_RATE} attempts per second, at most {@link #FLOOD_CONCURRENCY} in flight.
+ * The offered load is fixed so that both modes face the same attack, and the attackers (running in
+ * this JVM) cost the same CPU in both.
+ * <ul>
+ *   <li>{@code none}: no flood, the baseline.</li>
+ *   <li>{@code unbounded}: hashing pool as wide as the flood, which is how login behaved when
+ *       bcrypt ran on the request threads.</li>
+ *   <li>{@code bounded}: the default hashing pool and queue.</li>
+ * </ul>
+ * The rate limits are lifted in every case, as for a distributed attack spread over many addresses
+ * and accounts, so the numbers show what the bounded pool guarantees by itself.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Threads(2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoginFloodBenchmark {
+
+    private static final int FLOOD_RATE = 50;
+    private static final int FLOOD_CONCURRENCY = 32;
+    private static final int ACCOUNTS = 50;
+    private static final String PASSWORD = "secret1";
+    private static final String NO_RATE_LIMIT = "1000000";
+
+    @Param({"none", "unbounded", "bounded"})
+    private String flood;
+
+    private ConfigurableApplicationContext context;
+    private String baseUrl;
+    private HttpClient jobsClient;
+    private ScheduledExecutorService flooder;
+    private final Semaphore inFlight = new Semaphore(FLOOD_CONCURRENCY);
+    private final AtomicLong rejectedLogins = new AtomicLong();
+    private final AtomicLong attemptedLogins = new AtomicLong();
+
+    @Setup
+    public void setUp() throws Exception {
+        List<String> args = new ArrayList<>(List.of(
+                "--auth.rate-limit.account.capacity=" + NO_RATE_LIMIT,
+                "--auth.rate-limit.account.refill-per-minute=" + NO_RATE_LIMIT,
+                "--auth.rate-limit.address.capacity=" + NO_RATE_LIMIT,
+                "--auth.rate-limit.address.refill-per-minute=" + NO_RATE_LIMIT));
+        if (flood.equals("unbounded")) {
+            args.add("--auth.hashing.workers=" + FLOOD_CONCURRENCY);
+            args.add("--auth.hashing.queue-capacity=" + FLOOD_CONCURRENCY);
+        }
+        context = BenchmarkApp.startServer(args.toArray(String[]::new));
+        baseUrl = "http://localhost:" + BenchmarkApp.port(context);
+
+        String hash = new BCryptPasswordEncoder().encode(PASSWORD);
+        UserRepository users = context.getBean(UserRepository.class);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            User user = new User();
+            user.setName("flood " + i);
+            user.setEmail("flood" + i + "@example.com");
+            user.setPassword(hash);
+            users.save(user);
+        }
+        User reader = users.findByEmail("flood0@example.com").orElseThrow();
+        JobRepository jobs = context.getBean(JobRepository.class);
+        for (int i = 0; i < 50; i++) {
+            JobApplication job = BenchmarkData.job(i);
+            job.setId(null);
+            job.setUser(reader);
+            jobs.save(job);
+        }
+
+        jobsClient = HttpClient.newBuilder().cookieHandler(new CookieManager()).build();
+        HttpResponse<String> login = jobsClient.send(loginRequest("flood0@example.com", PASSWORD),
+                HttpResponse.BodyHandlers.ofString());
+        if (login.statusCode() != 200)
+            throw new IllegalStateException("Login failed: " + login.body());
+
+        if (!flood.equals("none")) {
+            HttpClient floodClient = HttpClient.newHttpClient();
+            flooder = Executors.newSingleThreadScheduledExecutor();
+            flooder.scheduleAtFixedRate(() -> attemptLogin(floodClient),
+                    0, TimeUnit.SECONDS.toMicros(1) / FLOOD_RATE, TimeUnit.MICROSECONDS);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        if (flooder != null) {
+            flooder.shutdown();
+            flooder.awaitTermination(5, TimeUnit.SECONDS);
+            // let in-flight attempts finish before the server goes away
+            inFlight.tryAcquire(FLOOD_CONCURRENCY, 30, TimeUnit.SECONDS);
+            System.out.printf("%n%s: %d login attempts during the run, %d rejected with 429%n",
+                    flood, attemptedLogins.get(), rejectedLogins.get());
+        }
+        context.close();
+    }
+
+    @Benchmark
+    public int listJobs() throws IOException, InterruptedException {
+        HttpResponse<Void> response = jobsClient.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/jobs?page=0")).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200)
+            throw new IllegalStateException("GET /jobs returned " + response.statusCode());
+        return response.statusCode();
+    }
+
+    private void attemptLogin(HttpClient client) {
+        // an attacker with all its connections busy skips this tick
+        if (!inFlight.tryAcquire())
+            return;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String email = "flood" + random.nextInt(ACCOUNTS) + "@example.com";
+        client.sendAsync(loginRequest(email, "wrong-" + random.nextInt()), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    inFlight.release();
+                    if (response == null)
+                        return;
+                    attemptedLogins.incrementAndGet();
+                    if (response.statusCode() == 429)
+                        rejectedLogins.incrementAndGet();
+                });
+    }
+
+    private HttpRequest loginRequest(String email, String password) {
+        String body = "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}";
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
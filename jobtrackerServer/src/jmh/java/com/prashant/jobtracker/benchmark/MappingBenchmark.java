@@ -0,0 +1,59 @@
+package com.prashant.jobtracker.benchmark;
+
+import com.prashant.jobtracker.dto.JobApplicationDTO;
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.mapper.JobApplicationMapper;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-object cost of the DTO mapping done for every row in JobServiceImpl, comparing the
+ * hand-written mapper with the reflective ModelMapper it replaced. Run with {@code -prof gc}
+ * to get the allocation rate per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    private JobApplicationMapper mapper;
+    private ModelMapper modelMapper;
+    private JobApplication entity;
+    private JobApplicationDTO dto;
+
+    @Setup
+    public void setUp() {
+        mapper = new JobApplicationMapper();
+        modelMapper = new ModelMapper();
+        entity = BenchmarkData.job(42);
+        dto = BenchmarkData.dto(42);
+        // let ModelMapper build its type maps outside the measurement
+        modelMapper.map(entity, JobApplicationDTO.class);
+        modelMapper.map(dto, JobApplication.class);
+    }
+
+    @Benchmark
+    public JobApplicationDTO handWrittenToDTO() {
+        return mapper.toDTO(entity);
+    }
+
+    @Benchmark
+    public JobApplicationDTO modelMapperToDTO() {
+        return modelMapper.map(entity, JobApplicationDTO.class);
+    }
+
+    @Benchmark
+    public JobApplication handWrittenToEntity() {
+        return mapper.toEntity(dto);
+    }
+
+    @Benchmark
+    public JobApplication modelMapperToEntity() {
+        return modelMapper.map(dto, JobApplication.class);
+    }
+}
@@ -0,0 +1,103 @@
+package com.prashant.jobtracker.benchmark;
+
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.entity.User;
+import com.prashant.jobtracker.repository.JobRepository;
+import com.prashant.jobtracker.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /jobs against the embedded Tomcat, one client at a time, with the metrics of the
+ * Prometheus endpoint recorded (route latency histograms, Hikari, Hibernate statistics) and
+ * with meters, observations and Hibernate statistics all switched off. The read cache is off
+ * too, so every request runs its query. The instrumented setup checks that the scrape carries
+ * the series, including the session count.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsOverheadBenchmark {
+
+    private static final String PASSWORD = "secret1";
+
+    @Param({"true", "false"})
+    private boolean instrumented;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest listJobs;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<String> args = new ArrayList<>(List.of("--jobs.read-cache.enabled=false"));
+        if (!instrumented)
+            args.addAll(List.of(
+                    "--management.metrics.enable.all=false",
+                    "--management.observations.enable.all=false",
+                    "--spring.jpa.properties.hibernate.generate_statistics=false"));
+        context = BenchmarkApp.startServer(args.toArray(String[]::new));
+        String baseUrl = "http://localhost:" + BenchmarkApp.port(context);
+
+        User user = new User();
+        user.setName("bench");
+        user.setEmail("metrics@example.com");
+        user.setPassword(new BCryptPasswordEncoder().encode(PASSWORD));
+        user = context.getBean(UserRepository.class).save(user);
+        JobRepository jobs = context.getBean(JobRepository.class);
+        for (int i = 0; i < 10; i++) {
+            JobApplication job = BenchmarkData.job(i);
+            job.setId(null);
+            job.setUser(user);
+            jobs.save(job);
+        }
+
+        // HTTP/1.1: the default h2c upgrade attempt would add its own round trips to every request
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).cookieHandler(new CookieManager()).build();
+        HttpResponse<String> login = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"email\":\"metrics@example.com\",\"password\":\"" + PASSWORD + "\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (login.statusCode() != 200)
+            throw new IllegalStateException("Login failed: " + login.body());
+        listJobs = HttpRequest.newBuilder(URI.create(baseUrl + "/jobs?page=0")).GET().build();
+
+        if (instrumented) {
+            listJobs();
+            String scrape = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/prometheus")).GET().build(),
+                    HttpResponse.BodyHandlers.ofString()).body();
+            for (String series : List.of("http_server_requests_seconds_bucket{", "tomcat_sessions_active_current_sessions",
+                    "hikaricp_connections_usage_seconds", "hibernate_statements_total", "auth_password_hash_seconds"))
+                if (!scrape.contains(series))
+                    throw new IllegalStateException("Scrape is missing " + series);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int listJobs() throws Exception {
+        HttpResponse<Void> response = client.send(listJobs, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200)
+            throw new IllegalStateException("GET /jobs answered " + response.statusCode());
+        return response.statusCode();
+    }
+}
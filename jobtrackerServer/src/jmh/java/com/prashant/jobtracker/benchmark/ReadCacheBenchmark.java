@@ -0,0 +1,125 @@
+package com.prashant.jobtracker.benchmark;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.entity.User;
+import com.prashant.jobtracker.entity.enums.JobStatus;
+import com.prashant.jobtracker.service.JobCollectionVersionService;
+import com.prashant.jobtracker.service.JobService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-mostly traffic of 50 users with 100 applications each: nine reads (the first page of
+ * {@code GET /jobs} with the collection version behind its ETag, or one of the user's 10 most
+ * recent jobs) to one status patch of a random user, with the per-user read cache on and off
+ * and a simulated database round trip. Statements per operation are printed after each iteration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReadCacheBenchmark {
+
+    private static final int USERS = 50;
+    private static final int JOBS_PER_USER = 100;
+    private static final int RECENT = 10;
+    private static final JobStatus[] STATUSES = {JobStatus.APPLIED, JobStatus.INTERVIEWING};
+
+    @Param({"true", "false"})
+    private boolean cacheEnabled;
+
+    @Param({"300"})
+    private long roundTripMicros;
+
+    private ConfigurableApplicationContext context;
+    private JobService jobService;
+    private JobCollectionVersionService versionService;
+    private Statistics statistics;
+    private final List<User> users = new ArrayList<>();
+    // per user, newest first
+    private final List<List<Long>> jobIds = new ArrayList<>();
+    private int[] patchesByUser;
+    private Random random;
+    private long ops;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApp.start(new Class<?>[]{SimulatedRoundTrips.class},
+                "--jobs.read-cache.enabled=" + cacheEnabled,
+                "--benchmark.round-trip-micros=" + roundTripMicros,
+                "--spring.jpa.properties.hibernate.generate_statistics=true");
+        jobService = context.getBean(JobService.class);
+        versionService = context.getBean(JobCollectionVersionService.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        patchesByUser = new int[USERS];
+        random = new Random(42);
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        for (int u = 0; u < USERS; u++) {
+            User user = BenchmarkApp.createUser(context, "cache" + u + "@example.com");
+            List<Object[]> rows = new ArrayList<>(JOBS_PER_USER);
+            for (long i = 0; i < JOBS_PER_USER; i++) {
+                JobApplication job = BenchmarkData.job(i);
+                rows.add(new Object[]{job.getCompanyName(), job.getJobRole(), Date.valueOf(job.getAppliedDate()),
+                        user.getId(), JobStatus.APPLIED.name()});
+            }
+            jdbc.batchUpdate("insert into job_applications (company_name, job_role, applied_date, user_id, status) "
+                    + "values (?, ?, ?, ?, ?)", rows);
+            users.add(user);
+            jobIds.add(jdbc.queryForList("select id from job_applications where user_id = ? "
+                    + "order by applied_date desc, id desc", Long.class, user.getId()));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounts() {
+        statistics.clear();
+        ops = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void printCounts() {
+        System.out.printf("%n  statements per op: %.2f%n", (double) statistics.getPrepareStatementCount() / ops);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object readMostly() {
+        ops++;
+        int user = random.nextInt(USERS);
+        List<Long> ids = jobIds.get(user);
+        BenchmarkApp.loginAs(users.get(user));
+        int roll = random.nextInt(10);
+        if (roll == 0) {
+            // every patch is a real change: the user's recent jobs in turn, flipping status on each pass
+            int patches = patchesByUser[user]++;
+            ObjectNode patch = JsonNodeFactory.instance.objectNode()
+                    .put("status", STATUSES[(patches / RECENT + 1) % 2].name());
+            return jobService.patchJob(ids.get(patches % RECENT), patch, null);
+        }
+        if (roll % 2 == 0) {
+            versionService.current(users.get(user).getId());
+            return jobService.getAllJobs(0);
+        }
+        return jobService.getJobById(ids.get(random.nextInt(RECENT)));
+    }
+}
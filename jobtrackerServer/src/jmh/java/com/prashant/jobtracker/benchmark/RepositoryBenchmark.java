@@ -0,0 +1,118 @@
+package com.prashant.jobtracker.benchmark;
+
+import com.prashant.jobtracker.dto.JobApplicationDTO;
+import com.prashant.jobtracker.dto.JobSearchCriteria;
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.entity.enums.JobStatus;
+import com.prashant.jobtracker.repository.JobRepository;
+import com.prashant.jobtracker.repository.JobSpecifications;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listing queries of JobRepository against the embedded H2 database from the "test" profile.
+ * {@code page} compares OFFSET pagination with keyset (seek) pagination at increasing depth:
+ * the offset variants grow with the page number while the keyset slice stays flat.
+ * {@code keysetSliceProjection} is the same slice selected into DTOs, as the endpoints read it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryBenchmark {
+
+    private static final int ROWS = 20_000;
+    private static final int PAGE_SIZE = 10;
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "appliedDate", "id");
+
+    @Param({"0", "100", "1000"})
+    private int page;
+
+    private ConfigurableApplicationContext context;
+    private JobRepository jobRepository;
+    private long userId;
+    private LocalDate seekDate;
+    private long seekId;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApp.start();
+        jobRepository = context.getBean(JobRepository.class);
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        userId = BenchmarkApp.createUser(context, "bench@example.com").getId();
+
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (long i = 0; i < ROWS; i++) {
+            JobApplication job = BenchmarkData.job(i);
+            rows.add(new Object[]{job.getCompanyName(), JobApplication.normalizeCompany(job.getCompanyName()), job.getJobId(), job.getJobRole(), job.getResumeUsed(),
+                    Date.valueOf(job.getAppliedDate()), userId, job.getComment(), job.getStatus().name()});
+        }
+        jdbc.batchUpdate("insert into job_applications (company_name, company_norm, job_id, job_role, resume_used, applied_date, user_id, comment, status) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+
+        // position of the last row of the previous page, i.e. what a cursor would carry
+        if (page > 0) {
+            List<Object[]> last = jdbc.query("select applied_date, id from job_applications where user_id = ? "
+                            + "order by applied_date desc, id desc limit 1 offset ?",
+                    (rs, n) -> new Object[]{rs.getDate(1).toLocalDate(), rs.getLong(2)}, userId, page * PAGE_SIZE - 1);
+            seekDate = (LocalDate) last.get(0)[0];
+            seekId = (Long) last.get(0)[1];
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Slice<JobApplicationDTO> offsetSlice() {
+        return jobRepository.findByUserId(userId, PageRequest.of(page, PAGE_SIZE, NEWEST_FIRST));
+    }
+
+    @Benchmark
+    public Page<JobApplication> offsetPageWithCount() {
+        return jobRepository.findAll(JobSpecifications.ownedBy(userId), PageRequest.of(page, PAGE_SIZE, NEWEST_FIRST));
+    }
+
+    @Benchmark
+    public List<JobApplication> keysetSlice() {
+        var spec = page == 0
+                ? JobSpecifications.ownedBy(userId)
+                : JobSpecifications.ownedBy(userId).and(JobSpecifications.seekAfter(seekDate, seekId));
+        return jobRepository.findBy(spec, q -> q.sortBy(NEWEST_FIRST).limit(PAGE_SIZE + 1).all());
+    }
+
+    // keysetSlice selecting the DTO's columns instead of managed entities with their eager user
+    @Benchmark
+    public List<JobApplicationDTO> keysetSliceProjection() {
+        var spec = page == 0
+                ? JobSpecifications.ownedBy(userId)
+                : JobSpecifications.ownedBy(userId).and(JobSpecifications.seekAfter(seekDate, seekId));
+        return jobRepository.findDTOs(spec, NEWEST_FIRST, PAGE_SIZE + 1);
+    }
+
+    @Benchmark
+    public Page<JobApplication> combinedSearch() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setStatus(Set.of(JobStatus.APPLIED, JobStatus.INTERVIEWING));
+        criteria.setCompany("goo");
+        criteria.setFrom(BenchmarkData.START);
+        criteria.setTo(BenchmarkData.START.plusDays(1500));
+        return jobRepository.findAll(JobSpecifications.matching(userId, criteria), PageRequest.of(page, PAGE_SIZE, NEWEST_FIRST));
+    }
+}
@@ -0,0 +1,127 @@
+package com.prashant.jobtracker.benchmark;
+
+import com.prashant.jobtracker.dto.JobApplicationDTO;
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.entity.User;
+import com.prashant.jobtracker.mapper.JobApplicationMapper;
+import com.prashant.jobtracker.repository.JobRepository;
+import com.prashant.jobtracker.service.CloudinaryService;
+import com.prashant.jobtracker.service.JobService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * POST /jobs service path with a stand-in storage backend that takes {@link #UPLOAD_MILLIS}
+ * per upload, on a deliberately small connection pool. {@code uploadInsideTransaction}
+ * reproduces the former addJob (remote upload while the transaction, and so the pooled
+ * connection, is open); {@code addJob} is the outbox version. Sample mode reports p99 directly;
+ * connection-hold time is the transaction span, i.e. upload time vs. a single insert.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 5)
+@Threads(16)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResumeUploadBenchmark {
+
+    static final long UPLOAD_MILLIS = 200;
+    private static final int POOL_SIZE = 4;
+
+    private ConfigurableApplicationContext context;
+    private JobService jobService;
+    private JobRepository jobRepository;
+    private CloudinaryService storage;
+    private JobApplicationMapper mapper;
+    private TransactionTemplate transactionTemplate;
+    private User user;
+
+    @State(Scope.Thread)
+    public static class Caller {
+        @Setup
+        public void login(ResumeUploadBenchmark benchmark) {
+            BenchmarkApp.loginAs(benchmark.user);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApp.start(new Class<?>[]{StandInStorage.class},
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--resume.upload.workers=" + POOL_SIZE);
+        jobService = context.getBean(JobService.class);
+        jobRepository = context.getBean(JobRepository.class);
+        storage = context.getBean(CloudinaryService.class);
+        mapper = context.getBean(JobApplicationMapper.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        user = BenchmarkApp.createUser(context, "upload@example.com");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object addJob(Caller caller) {
+        return jobService.addJob(BenchmarkData.dto(1), resume());
+    }
+
+    @Benchmark
+    public Object uploadInsideTransaction(Caller caller) {
+        return transactionTemplate.execute(status -> {
+            JobApplication job = mapper.toEntity(BenchmarkData.dto(1));
+            job.setId(null);
+            job.setResumeUsed(storage.uploadPdf(resume()));
+            job.setUser(user);
+            return jobRepository.save(job);
+        });
+    }
+
+    private static MultipartFile resume() {
+        return new MockMultipartFile("resume", "resume.pdf", "application/pdf", new byte[64 * 1024]);
+    }
+
+    @Configuration
+    static class StandInStorage {
+        @Bean
+        @Primary
+        CloudinaryService standInCloudinaryService() {
+            return new CloudinaryService() {
+                @Override
+                public String uploadImage(MultipartFile file) {
+                    return upload();
+                }
+
+                @Override
+                public String uploadPdf(MultipartFile file) {
+                    return upload();
+                }
+
+                @Override
+                public String uploadPdf(Path file) {
+                    return upload();
+                }
+
+                private String upload() {
+                    try {
+                        Thread.sleep(UPLOAD_MILLIS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return "https://storage.local/resume.pdf";
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.prashant.jobtracker.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.prashant.jobtracker.advices.APIResponse;
+import com.prashant.jobtracker.dto.JobApplicationDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Rendering of a job list as GlobalResponseHandler wraps it, at several page sizes, in each
+ * format the API negotiates; {@code gzipped} adds the compression Tomcat applies to JSON.
+ * The encoded sizes, plain and gzipped, are printed once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int rows;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private List<JobApplicationDTO> jobs;
+
+    @Setup
+    public void setUp() throws IOException {
+        // same defaults Spring Boot applies to the MVC message converter, which WebConfig copies for the binary ones
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+        objectMapper = switch (format) {
+            case "cbor" -> json.copyWith(new CBORFactory());
+            case "smile" -> json.copyWith(new SmileFactory());
+            default -> json;
+        };
+        jobs = BenchmarkData.dtos(rows);
+        System.out.printf("%n  %s, %d rows: %d bytes, %d gzipped%n", format, rows, wrappedJobList().length, gzipped().length);
+    }
+
+    @Benchmark
+    public byte[] wrappedJobList() throws IOException {
+        return objectMapper.writeValueAsBytes(new APIResponse<>(jobs));
+    }
+
+    @Benchmark
+    public byte[] gzipped() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, new APIResponse<>(jobs));
+        }
+        return bytes.toByteArray();
+    }
+}
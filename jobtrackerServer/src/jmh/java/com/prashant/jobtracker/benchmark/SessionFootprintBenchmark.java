@@ -0,0 +1,108 @@
+package com.prashant.jobtracker.benchmark;
+
+import com.prashant.jobtracker.entity.User;
+import com.prashant.jobtracker.repository.UserRepository;
+import com.prashant.jobtracker.security.UserPrincipal;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * What a logged-in session costs, with the User entity as the principal (as login used to store it)
+ * and with the slim UserPrincipal. Setup loads 100k users through the repository, keeps one session
+ * per user alive and prints the retained heap per session; the benchmark serializes one session
+ * the way a replicated or persistent session store would.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class SessionFootprintBenchmark {
+
+    private static final String CONTEXT_ATTRIBUTE = "SPRING_SECURITY_CONTEXT";
+    private static final String BCRYPT_HASH = "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z1MDBgEh0B0V6f5Kmq5f";
+
+    @Param({"entity", "principal"})
+    private String principal;
+
+    @Param({"100000"})
+    private int sessions;
+
+    private ConfigurableApplicationContext context;
+    private Map<String, Object>[] liveSessions;
+    private long usedWithSessions;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws IOException {
+        context = BenchmarkApp.start();
+        // distinct hash per row, as bcrypt salts make them
+        context.getBean(JdbcTemplate.class).batchUpdate(
+                "insert into users (name, email, password) values (?, ?, ?)",
+                IntStream.range(0, sessions)
+                        .mapToObj(i -> new Object[]{"user " + i, "user" + i + "@example.com", BCRYPT_HASH + i})
+                        .toList());
+
+        // loaded outside a transaction, like loadUserByUsername during login: detached, with a lazy collection
+        List<User> users = context.getBean(UserRepository.class).findAll();
+        liveSessions = new Map[sessions];
+        for (int i = 0; i < sessions; i++) {
+            // StandardSession keeps its attributes in a ConcurrentHashMap
+            Map<String, Object> attributes = new ConcurrentHashMap<>();
+            attributes.put(CONTEXT_ATTRIBUTE, securityContext(users.get(i)));
+            liveSessions[i] = attributes;
+        }
+        usedWithSessions = usedHeapAfterGc();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        int serializedBytes = serialize(liveSessions[0]).length;
+        // dropping the sessions frees exactly what they retain, principals included
+        liveSessions = null;
+        long retained = usedWithSessions - usedHeapAfterGc();
+        System.out.printf("%n%s: %d sessions retain %,d bytes (%,d bytes per session), %,d bytes serialized%n",
+                principal, sessions, retained, retained / sessions, serializedBytes);
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] serializeSession() throws IOException {
+        return serialize(liveSessions[sessions / 2]);
+    }
+
+    private SecurityContext securityContext(User user) {
+        Object sessionPrincipal = principal.equals("entity") ? user : UserPrincipal.from(user);
+        return new SecurityContextImpl(
+                UsernamePasswordAuthenticationToken.authenticated(sessionPrincipal, null, List.of()));
+    }
+
+    private static byte[] serialize(Object session) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(session);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++)
+            System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
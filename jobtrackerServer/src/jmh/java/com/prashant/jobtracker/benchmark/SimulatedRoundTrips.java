@@ -0,0 +1,80 @@
+package com.prashant.jobtracker.benchmark;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Adds benchmark.round-trip-micros of latency to every statement execution and commit, so the
+ * in-memory database behaves like one across a network. Register it as an extra source.
+ */
+class SimulatedRoundTrips implements BeanPostProcessor, EnvironmentAware {
+
+    private static final Set<String> STATEMENT_ROUND_TRIPS =
+            Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+    private static final Set<String> CONNECTION_ROUND_TRIPS = Set.of("commit", "rollback");
+
+    private long latencyNanos;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        latencyNanos = environment.getProperty("benchmark.round-trip-micros", Long.class, 0L) * 1000;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || latencyNanos == 0)
+            return bean;
+        return proxy(DataSource.class, dataSource, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            return result instanceof Connection connection ? connection(connection) : result;
+        });
+    }
+
+    private Connection connection(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            if (CONNECTION_ROUND_TRIPS.contains(method.getName()))
+                LockSupport.parkNanos(latencyNanos);
+            Object result = invoke(target, method, args);
+            if (result instanceof Statement statement)
+                return statement(statement, method.getReturnType());
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <S extends Statement> S statement(Statement statement, Class<?> type) {
+        return (S) proxy(type, statement, (target, method, args) -> {
+            if (STATEMENT_ROUND_TRIPS.contains(method.getName()))
+                LockSupport.parkNanos(latencyNanos);
+            return invoke(target, method, args);
+        });
+    }
+
+    private interface Handler<T> {
+        Object handle(T target, java.lang.reflect.Method method, Object[] args) throws Throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<?> type, T target, Handler<T> handler) {
+        InvocationHandler invocationHandler = (p, method, args) -> handler.handle(target, method, args);
+        return (T) Proxy.newProxyInstance(SimulatedRoundTrips.class.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+    }
+
+    private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.prashant.jobtracker.benchmark;
+
+import com.prashant.jobtracker.dto.JobApplicationDTO;
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.mapper.JobApplicationMapper;
+import com.prashant.jobtracker.repository.JobRepository;
+import com.prashant.jobtracker.repository.JobSpecifications;
+import com.prashant.jobtracker.service.JobTextSearchService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Top 20 matches for a free-text query over one user's 50k applications: the in-memory
+ * inverted index (JobTextSearchService, including loading and mapping the 20 rows) against
+ * the same filter as {@code LIKE '%word%'} predicates, which have to scan every row of the user.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextSearchBenchmark {
+
+    private static final int ROWS = 50_000;
+    private static final int LIMIT = 20;
+    private static final String[] RECRUITERS = {"Alice", "Bob", "Priya", "Chen", "Maria", "Omar", "Lena"};
+    private static final String[] TOPICS = {"payments", "kubernetes", "search", "billing", "observability",
+            "mobile", "compliance", "recommendations", "storage", "identity", "analytics"};
+
+    // a common word, a rare prefix, and two words that must both match
+    @Param({"backend", "kubern", "stripe platform"})
+    private String query;
+
+    private ConfigurableApplicationContext context;
+    private JobTextSearchService searchService;
+    private JobRepository jobRepository;
+    private JobApplicationMapper mapper;
+    private long userId;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApp.start();
+        searchService = context.getBean(JobTextSearchService.class);
+        jobRepository = context.getBean(JobRepository.class);
+        mapper = context.getBean(JobApplicationMapper.class);
+        var user = BenchmarkApp.createUser(context, "search@example.com");
+        userId = user.getId();
+        BenchmarkApp.loginAs(user);
+
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (long i = 0; i < ROWS; i++) {
+            JobApplication job = BenchmarkData.job(i);
+            String comment = i % 3 == 0 ? job.getComment()
+                    : "Recruiter " + RECRUITERS[(int) (i % RECRUITERS.length)] + " mentioned the "
+                    + TOPICS[(int) (i / 7 % TOPICS.length)] + " team, ref " + i;
+            rows.add(new Object[]{job.getCompanyName(), job.getJobRole(), Date.valueOf(job.getAppliedDate()),
+                    userId, comment, job.getStatus().name()});
+        }
+        context.getBean(JdbcTemplate.class).batchUpdate("insert into job_applications "
+                + "(company_name, job_role, applied_date, user_id, comment, status) values (?, ?, ?, ?, ?, ?)", rows);
+
+        // builds the index once, as the first search after startup would
+        searchService.search(query, LIMIT);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<JobApplicationDTO> invertedIndex() {
+        return searchService.search(query, LIMIT);
+    }
+
+    @Benchmark
+    public List<JobApplicationDTO> sqlLike() {
+        Specification<JobApplication> spec = JobSpecifications.ownedBy(userId);
+        for (String word : query.toLowerCase(Locale.ROOT).split(" ")) {
+            String pattern = "%" + word + "%";
+            spec = spec.and((root, q, cb) -> cb.or(
+                    cb.like(cb.lower(root.get("companyName")), pattern),
+                    cb.like(cb.lower(root.get("jobRole")), pattern),
+                    cb.like(cb.lower(root.get("comment")), pattern)));
+        }
+        return jobRepository.findBy(spec, q -> q.sortBy(Sort.by(Sort.Direction.DESC, "id")).limit(LIMIT).all())
+                .stream()
+                .map(mapper::toDTO)
+                .toList();
+    }
+}
@@ -1,10 +1,17 @@
 package com.prashant.jobtracker.advices;
 
+import com.prashant.jobtracker.exception.InvalidRequestException;
+import com.prashant.jobtracker.exception.InvalidTokenException;
+import com.prashant.jobtracker.exception.PreconditionFailedException;
 import com.prashant.jobtracker.exception.ResourceAlreadyExistsException;
 import com.prashant.jobtracker.exception.ResourceNotFoundException;
+import com.prashant.jobtracker.exception.TooManyRequestsException;
+import com.prashant.jobtracker.exception.UploadCapacityExceededException;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -34,7 +41,7 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler(ResourceNotFoundException.class)
-    public ResponseEntity<APIResponse<?>> resourceNotFoundHandler(ResourceAlreadyExistsException ex) {
+    public ResponseEntity<APIResponse<?>> resourceNotFoundHandler(ResourceNotFoundException ex) {
         APIError err = APIError.builder()
                 .message(ex.getMessage())
                 .status(HttpStatus.NOT_FOUND)
@@ -42,6 +49,63 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new APIResponse<>(err));
     }
 
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<APIResponse<?>> invalidRequestHandler(InvalidRequestException ex) {
+        APIError err = APIError.builder()
+                .message(ex.getMessage())
+                .status(HttpStatus.BAD_REQUEST)
+                .build();
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new APIResponse<>(err));
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<APIResponse<?>> preconditionFailedHandler(PreconditionFailedException ex) {
+        APIError err = APIError.builder()
+                .message(ex.getMessage())
+                .status(HttpStatus.PRECONDITION_FAILED)
+                .build();
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(new APIResponse<>(err));
+    }
+
+    // another transaction updated the row between our read and our write
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<APIResponse<?>> optimisticLockHandler(ObjectOptimisticLockingFailureException ex) {
+        APIError err = APIError.builder()
+                .message("The job was changed by another request at the same time, reload it and retry")
+                .status(HttpStatus.CONFLICT)
+                .build();
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(new APIResponse<>(err));
+    }
+
+    @ExceptionHandler(InvalidTokenException.class)
+    public ResponseEntity<APIResponse<?>> invalidTokenHandler(InvalidTokenException ex) {
+        APIError err = APIError.builder()
+                .message(ex.getMessage())
+                .status(HttpStatus.UNAUTHORIZED)
+                .build();
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new APIResponse<>(err));
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<APIResponse<?>> tooManyRequestsHandler(TooManyRequestsException ex) {
+        APIError err = APIError.builder()
+                .message(ex.getMessage())
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .build();
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new APIResponse<>(err));
+    }
+
+    @ExceptionHandler(UploadCapacityExceededException.class)
+    public ResponseEntity<APIResponse<?>> uploadCapacityHandler(UploadCapacityExceededException ex) {
+        APIError err = APIError.builder()
+                .message(ex.getMessage())
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new APIResponse<>(err));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<APIResponse<?>> handleInvalidMethodArgument(MethodArgumentNotValidException ex) {
         // Extract only the default messages from the validation errors
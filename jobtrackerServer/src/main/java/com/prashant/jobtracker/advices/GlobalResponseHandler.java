@@ -1,7 +1,10 @@
 package com.prashant.jobtracker.advices;
 
 import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
@@ -12,11 +15,18 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 public class GlobalResponseHandler implements ResponseBodyAdvice<Object> {
     @Override
     public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
-        return true;
+        // actuator endpoints keep the formats their clients expect, the Prometheus scrape is plain text
+        if (returnType.getContainingClass().getPackageName().startsWith("org.springframework.boot.actuate"))
+            return false;
+        // a ResponseEntity<Void> (204 No Content) has no body to wrap
+        return ResolvableType.forMethodParameter(returnType).getGeneric(0).resolve() != Void.class
+                || !ResponseEntity.class.isAssignableFrom(returnType.getParameterType());
     }
 
     @Override
     public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType, Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request, ServerHttpResponse response) {
+        // JSON, CBOR or Smile depending on Accept, so caches must not hand one client's encoding to another
+        response.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
         if (body instanceof APIResponse<?>)
                 return body;
         return new APIResponse<>(body);
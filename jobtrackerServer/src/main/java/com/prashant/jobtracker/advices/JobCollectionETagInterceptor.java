@@ -0,0 +1,47 @@
+package com.prashant.jobtracker.advices;
+
+import com.prashant.jobtracker.entity.JobCollectionVersion;
+import com.prashant.jobtracker.service.JobCollectionVersionService;
+import com.prashant.jobtracker.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Conditional GET for the job listings. Their weak ETag is the caller's collection version,
+ * so a matching If-None-Match is answered with 304 from one job_collection_versions row before
+ * the handler queries, maps or serializes anything. The version is read before the handler
+ * runs, so a body can be newer than the tag it is sent with but never older. The handler's read
+ * cache keys on the same version, passed along as a request attribute instead of read again.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobCollectionETagInterceptor implements HandlerInterceptor {
+
+    private final UserService userService;
+    private final JobCollectionVersionService jobCollectionVersionService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // the full-text index catches up after commit, so its results may trail the version
+        if (!HttpMethod.GET.matches(request.getMethod()) || request.getParameter("q") != null)
+            return true;
+
+        Long userId = userService.getLoggedInUser().getId();
+        JobCollectionVersion current = jobCollectionVersionService.current(userId);
+        request.setAttribute(JobCollectionVersionService.REQUEST_ATTRIBUTE, current);
+        // the browser cache is keyed by URL alone and another account may log in on the same browser.
+        // Weak, since the same version tags the JSON, CBOR, Smile and gzipped bodies alike
+        String etag = "W/\"" + userId + "." + current.getVersion() + "\"";
+        long lastModified = current.getModifiedAt() == null ? -1 : current.getModifiedAt().toEpochMilli();
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        return !new ServletWebRequest(request, response).checkNotModified(etag, lastModified);
+    }
+}
@@ -0,0 +1,66 @@
+package com.prashant.jobtracker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+    private final int uploadWorkers;
+    private final int uploadQueueCapacity;
+    private final int hashingWorkers;
+    private final int hashingQueueCapacity;
+    // spring.threads.virtual.enabled=true on Java 21+
+    private final boolean virtualThreads;
+
+    public AsyncConfig(
+            Environment environment,
+            @Value("${resume.upload.workers}") int uploadWorkers,
+            @Value("${resume.upload.queue-capacity}") int uploadQueueCapacity,
+            @Value("${auth.hashing.workers}") int hashingWorkers,
+            @Value("${auth.hashing.queue-capacity}") int hashingQueueCapacity) {
+        this.uploadWorkers = uploadWorkers;
+        this.uploadQueueCapacity = uploadQueueCapacity;
+        // 0 leaves at least half of the CPUs to everything else
+        this.hashingWorkers = hashingWorkers > 0
+                ? hashingWorkers
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.hashingQueueCapacity = hashingQueueCapacity;
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+    }
+
+    // bounded on purpose: when the queue is full tasks stay in the outbox and the poller retries them
+    @Bean
+    public ThreadPoolTaskExecutor resumeUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(uploadWorkers);
+        executor.setMaxPoolSize(uploadWorkers);
+        executor.setQueueCapacity(uploadQueueCapacity);
+        executor.setThreadNamePrefix("resume-upload-");
+        // uploads mostly wait on the network; the pool size still bounds how many run at once
+        executor.setVirtualThreads(virtualThreads);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // bcrypt is CPU-bound by design, so this stays on platform threads in either mode;
+    // a full queue is rejected and surfaces as 429
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(hashingWorkers);
+        executor.setMaxPoolSize(hashingWorkers);
+        executor.setQueueCapacity(hashingQueueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.initialize();
+        return executor;
+    }
+}
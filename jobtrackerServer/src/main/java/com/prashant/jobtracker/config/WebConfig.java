@@ -0,0 +1,63 @@
+package com.prashant.jobtracker.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.prashant.jobtracker.advices.JobCollectionETagInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final JobCollectionETagInterceptor jobCollectionETagInterceptor;
+    private final ObjectMapper objectMapper;
+    private final Set<String> binaryFormats;
+
+    public WebConfig(JobCollectionETagInterceptor jobCollectionETagInterceptor, ObjectMapper objectMapper,
+                     @Value("${api.binary-formats:}") Set<String> binaryFormats) {
+        this.jobCollectionETagInterceptor = jobCollectionETagInterceptor;
+        this.objectMapper = objectMapper;
+        this.binaryFormats = binaryFormats;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // every job read whose body depends on nothing but the caller's jobs; GET /jobs/{id} has its own per-job ETag
+        registry.addInterceptor(jobCollectionETagInterceptor)
+                .addPathPatterns("/jobs", "/jobs/search", "/jobs/scroll", "/jobs/stats", "/jobs/between", "/jobs/company/**");
+    }
+
+    // Spring registers both binary converters by itself once their Jackson module is on the classpath, each with
+    // its own defaults. They are replaced by copies of the application's mapper, so dates and nulls come out as in
+    // JSON, and only the configured ones are kept. They go after the JSON converter, which keeps */* on JSON.
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+
+        List<HttpMessageConverter<?>> binary = new ArrayList<>();
+        if (binaryFormats.contains("cbor"))
+            binary.add(new MappingJackson2CborHttpMessageConverter(objectMapper.copyWith(new CBORFactory())));
+        if (binaryFormats.contains("smile"))
+            binary.add(new MappingJackson2SmileHttpMessageConverter(objectMapper.copyWith(new SmileFactory())));
+
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                converters.addAll(i + 1, binary);
+                return;
+            }
+        }
+        converters.addAll(binary);
+    }
+}
@@ -1,7 +1,9 @@
 package com.prashant.jobtracker.controller;
 
 import com.prashant.jobtracker.dto.LoginRequestDTO;
+import com.prashant.jobtracker.dto.RefreshTokenRequestDTO;
 import com.prashant.jobtracker.dto.Response;
+import com.prashant.jobtracker.dto.TokenResponse;
 import com.prashant.jobtracker.dto.UserDTO;
 import com.prashant.jobtracker.service.impl.AuthServiceImpl;
 import jakarta.servlet.http.HttpServletRequest;
@@ -32,15 +34,22 @@ public class AuthController {
     }
 
     @PostMapping("/signup")
-    public ResponseEntity<UserDTO> signup(@Valid @RequestBody UserDTO userData) {
-        UserDTO savedUser = authServiceImpl.signUp(userData);
+    public ResponseEntity<UserDTO> signup(@Valid @RequestBody UserDTO userData, HttpServletRequest request) {
+        UserDTO savedUser = authServiceImpl.signUp(userData, request);
         log.info("User signed up successfully: {}", savedUser);
         return new ResponseEntity<>(savedUser, HttpStatus.CREATED);
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(@Valid @RequestBody RefreshTokenRequestDTO refreshRequest) {
+        return ResponseEntity.ok(authServiceImpl.refresh(refreshRequest));
+    }
+
+    // in token mode the body may carry the refresh token so it is revoked along with the access token
     @PostMapping("/logout")
-    public ResponseEntity<Response> logout(HttpServletRequest request, HttpServletResponse response) {
-        authServiceImpl.logout(request,response);
+    public ResponseEntity<Response> logout(HttpServletRequest request, HttpServletResponse response,
+                                           @RequestBody(required = false) RefreshTokenRequestDTO refreshRequest) {
+        authServiceImpl.logout(request, response, refreshRequest);
         return ResponseEntity.ok(new Response("Logout successful"));
     }
 
@@ -0,0 +1,27 @@
+package com.prashant.jobtracker.controller;
+
+import com.prashant.jobtracker.dto.CompanySuggestionDTO;
+import com.prashant.jobtracker.service.CompanySuggestionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/companies")
+@RequiredArgsConstructor
+public class CompanyController {
+
+    private final CompanySuggestionService companySuggestionService;
+
+    // the caller's most used company names starting with prefix; an empty prefix gives the overall top
+    @GetMapping("/suggest")
+    public ResponseEntity<List<CompanySuggestionDTO>> suggest(@RequestParam(defaultValue = "") String prefix,
+                                                              @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(companySuggestionService.suggest(prefix, limit));
+    }
+}
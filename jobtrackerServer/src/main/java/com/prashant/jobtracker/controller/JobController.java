@@ -1,20 +1,44 @@
 package com.prashant.jobtracker.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.prashant.jobtracker.dto.BulkJobRequestDTO;
+import com.prashant.jobtracker.dto.BulkResult;
+import com.prashant.jobtracker.dto.CursorPage;
+import com.prashant.jobtracker.dto.ImportResult;
 import com.prashant.jobtracker.dto.JobApplicationDTO;
+import com.prashant.jobtracker.dto.JobSearchCriteria;
+import com.prashant.jobtracker.dto.JobStatsDTO;
+import com.prashant.jobtracker.dto.PageResponse;
 import com.prashant.jobtracker.dto.Response;
 import com.prashant.jobtracker.entity.enums.JobStatus;
+import com.prashant.jobtracker.exception.InvalidRequestException;
+import com.prashant.jobtracker.service.JobExportService;
+import com.prashant.jobtracker.service.JobImportService;
 import com.prashant.jobtracker.service.JobService;
+import com.prashant.jobtracker.service.JobStatsService;
+import com.prashant.jobtracker.service.JobTextSearchService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/jobs")
@@ -22,6 +46,10 @@ import java.util.List;
 public class JobController {
 
     private final JobService jobService;
+    private final JobStatsService jobStatsService;
+    private final JobImportService jobImportService;
+    private final JobExportService jobExportService;
+    private final JobTextSearchService jobTextSearchService;
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<Response> addJobDetails(@Valid @RequestPart("job") JobApplicationDTO jobApplicationDTO, @RequestPart("resume") MultipartFile resumeFile) {
@@ -29,15 +57,67 @@ public class JobController {
         return ResponseEntity.status(HttpStatus.CREATED).body(resp);
     }
 
+    // raw CSV or NDJSON body, read as a stream; rows are validated and reported individually
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ImportResult> importJobs(HttpServletRequest request) throws IOException {
+        ImportResult result = jobImportService.importJobs(request.getInputStream(),
+                MediaType.parseMediaType(request.getContentType()));
+        return ResponseEntity.ok(result);
+    }
+
+    // written straight to the response while the rows are read, so it never goes through GlobalResponseHandler
+    @GetMapping("/export")
+    public void exportJobs(@RequestParam(defaultValue = "csv") String format, HttpServletResponse response) throws IOException {
+        MediaType mediaType = switch (format.toLowerCase(Locale.ROOT)) {
+            case "csv" -> MediaType.parseMediaType("text/csv");
+            case "ndjson" -> MediaType.parseMediaType("application/x-ndjson");
+            default -> throw new InvalidRequestException("Export format must be csv or ndjson");
+        };
+        response.setContentType(mediaType + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("jobs." + format.toLowerCase(Locale.ROOT)).build().toString());
+        jobExportService.exportJobs(mediaType, response.getOutputStream());
+    }
+
+    // the ETag is the job's version, strong so that it can go back in If-Match; Tomcat doesn't gzip strongly tagged
+    // bodies, which a single job rarely needs. The job comes from the read cache, so revalidating it costs no job query
     @GetMapping("/{id}")
-    public ResponseEntity<JobApplicationDTO> getJobById(@PathVariable Long id) {
-        return ResponseEntity.ok(jobService.getJobById(id));
+    public ResponseEntity<JobApplicationDTO> getJobById(@PathVariable Long id, WebRequest request) {
+        JobApplicationDTO job = jobService.getJobById(id);
+        String etag = versionTag(job.getVersion());
+        if (request.checkNotModified(etag))
+            return null;
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(job);
     }
 
+    // with If-Match: "<version>" the update only applies if the job is still at that version (412 otherwise)
     @PutMapping("/{id}")
-    public ResponseEntity<JobApplicationDTO> updateJob(@PathVariable Long id, @Valid @RequestBody JobApplicationDTO jobApplicationDTO) {
+    public ResponseEntity<JobApplicationDTO> updateJob(@PathVariable Long id, @Valid @RequestBody JobApplicationDTO jobApplicationDTO,
+                                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        JobApplicationDTO updated = jobService.updateJob(id, jobApplicationDTO, matchingVersions(ifMatch));
+        return ResponseEntity.ok().eTag(versionTag(updated.getVersion())).body(updated);
+    }
 
-        return ResponseEntity.ok(jobService.updateJob(id, jobApplicationDTO));
+    // JSON Merge Patch of companyName, jobRole, comment and status, e.g. {"status": "INTERVIEWING"};
+    // answers 204 with the new version as ETag, If-Match works as for PUT
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Void> patchJob(@PathVariable Long id, @RequestBody JsonNode patch,
+                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        long version = jobService.patchJob(id, patch, matchingVersions(ifMatch));
+        return ResponseEntity.noContent().eTag(versionTag(version)).build();
+    }
+
+    @PatchMapping("/bulk")
+    public ResponseEntity<BulkResult> updateStatuses(@Valid @RequestBody BulkJobRequestDTO request) {
+        return ResponseEntity.ok(jobService.updateStatuses(request));
+    }
+
+    @DeleteMapping("/bulk")
+    public ResponseEntity<BulkResult> deleteJobs(@Valid @RequestBody BulkJobRequestDTO request) {
+        return ResponseEntity.ok(jobService.deleteJobs(request));
     }
 
     @DeleteMapping("/{id}")
@@ -52,14 +132,19 @@ public class JobController {
     }
 
     @GetMapping("/between")
-    public ResponseEntity<List<JobApplicationDTO>> getJobsBetweenDates(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from, @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+    public ResponseEntity<List<JobApplicationDTO>> getJobsBetweenDates(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from, @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                      @RequestParam(defaultValue = "0") int page,
+                                                                      @RequestParam(defaultValue = "10") int size) {
 
-        return ResponseEntity.ok(jobService.getJobsBetweenDates(from, to));
+        return ResponseEntity.ok(jobService.getJobsBetweenDates(from, to, page, size));
     }
 
+    // case- and surrounding-whitespace-insensitive: "google " finds the jobs saved as "Google"
     @GetMapping("/company/{companyName}")
-    public ResponseEntity<List<JobApplicationDTO>> getJobsByCompany(@PathVariable String companyName) {
-        return ResponseEntity.ok(jobService.getJobsByCompany(companyName));
+    public ResponseEntity<List<JobApplicationDTO>> getJobsByCompany(@PathVariable String companyName,
+                                                                    @RequestParam(defaultValue = "0") int page,
+                                                                    @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(jobService.getJobsByCompany(companyName, page, size));
     }
 
     @GetMapping(params = "status")
@@ -68,6 +153,53 @@ public class JobController {
         return ResponseEntity.ok(jobService.getJobsByStatus(status));
     }
 
+    @GetMapping("/stats")
+    public ResponseEntity<JobStatsDTO> getStats() {
+        return ResponseEntity.ok(jobStatsService.getStats());
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<PageResponse<JobApplicationDTO>> searchJobs(@ModelAttribute JobSearchCriteria criteria,
+                                                                      @RequestParam(defaultValue = "0") int page,
+                                                                      @RequestParam(defaultValue = "10") int size,
+                                                                      @RequestParam(required = false) String sort) {
+        return ResponseEntity.ok(jobService.searchJobs(criteria, page, size, sort));
+    }
+
+    // ranked full-text search, e.g. ?q=backend goo; every word must match the start of a word in company, role or comment
+    @GetMapping(value = "/search", params = "q")
+    public ResponseEntity<List<JobApplicationDTO>> searchText(@RequestParam String q,
+                                                              @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(jobTextSearchService.search(q, limit));
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<JobApplicationDTO>> scrollJobs(@ModelAttribute JobSearchCriteria criteria,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = "10") int size,
+                                                                    @RequestParam(defaultValue = "false") boolean withTotal) {
+        return ResponseEntity.ok(jobService.scrollJobs(criteria, cursor, size, withTotal));
+    }
+
+    private static String versionTag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    // null when there is no precondition or it is "*". If-Match uses the strong comparison (RFC 9110 13.1.1),
+    // so weak tags never match, and neither does anything that isn't a version
+    private static Set<Long> matchingVersions(String ifMatch) {
+        if (ifMatch == null)
+            return null;
+        Set<Long> versions = new HashSet<>();
+        for (ETag etag : ETag.parse(ifMatch)) {
+            if (etag.isWildcard())
+                return null;
+            if (!etag.weak() && etag.tag().matches("\\d{1,18}"))
+                versions.add(Long.valueOf(etag.tag()));
+        }
+        return versions;
+    }
+
 
 
 }
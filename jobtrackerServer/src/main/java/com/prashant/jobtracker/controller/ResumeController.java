@@ -0,0 +1,127 @@
+package com.prashant.jobtracker.controller;
+
+import com.prashant.jobtracker.dto.ResumeDownload;
+import com.prashant.jobtracker.service.ResumeService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+@RestController
+@RequestMapping("/resumes")
+@RequiredArgsConstructor
+public class ResumeController {
+
+    // Tomcat's sendfile contract: when supported, the connector streams the file itself from the page cache
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ResumeService resumeService;
+
+    /**
+     * Remote resumes redirect to their storage URL. Locally stored ones are served here with
+     * strong ETags, single-range requests and zero-copy transfer; the body is written straight
+     * to the response, so it is not wrapped in APIResponse.
+     */
+    @GetMapping("/{id}/download")
+    public void download(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ResumeDownload download = resumeService.getDownload(id);
+
+        if (download.getLocalFile() == null) {
+            response.sendRedirect(download.getLink());
+            return;
+        }
+
+        Path file = download.getLocalFile();
+        long length = Files.size(file);
+        String etag = download.getEtag();
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=0, must-revalidate");
+
+        if (etagMatches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+
+        // a stale If-Range means the client's partial copy is useless: send the whole file
+        if (range != null && (ifRange == null || ifRange.equals(etag))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(range);
+            } catch (IllegalArgumentException ex) {
+                ranges = List.of();
+            }
+            // multipart/byteranges is not worth it for resumes; several ranges get the full body
+            if (ranges.size() == 1) {
+                HttpRange requested = ranges.get(0);
+                start = requested.getRangeStart(length);
+                end = requested.getRangeEnd(length);
+                if (start >= length || start > end) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    return;
+                }
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(MediaType.APPLICATION_PDF_VALUE);
+        response.setContentLengthLong(count);
+        if (download.getFilename() != null)
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + download.getFilename().replace("\"", "") + "\"");
+
+        if ("HEAD".equals(request.getMethod()) || count == 0)
+            return;
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end)
+                position += channel.transferTo(position, end + 1 - position, out);
+        }
+    }
+
+    private static boolean etagMatches(String header, String etag) {
+        if (header == null || etag == null)
+            return false;
+        return Arrays.stream(header.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+    }
+}
@@ -0,0 +1,20 @@
+package com.prashant.jobtracker.dto;
+
+import com.prashant.jobtracker.entity.enums.JobStatus;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkJobRequestDTO {
+
+    // either ids or filter, not both; rows of other users are never matched
+    @Size(max = 1000, message = "At most 1000 ids per request")
+    private List<Long> ids;
+
+    private JobSearchCriteria filter;
+
+    // new status, PATCH /jobs/bulk only
+    private JobStatus status;
+}
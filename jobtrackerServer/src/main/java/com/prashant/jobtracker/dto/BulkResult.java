@@ -0,0 +1,15 @@
+package com.prashant.jobtracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkResult {
+    // rows actually changed; ids that don't exist, belong to someone else or already match are not counted
+    private long affected;
+}
@@ -0,0 +1,15 @@
+package com.prashant.jobtracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CompanySuggestionDTO {
+    // the spelling this user types most often for the company
+    private String name;
+    // applications to this company
+    private long count;
+}
@@ -0,0 +1,22 @@
+package com.prashant.jobtracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    // opaque token to pass back as ?cursor= for the following slice, null on the last one
+    private String nextCursor;
+    // only present when requested; counted once on the first slice and carried inside the cursor afterwards
+    private Long totalElements;
+}
@@ -0,0 +1,28 @@
+package com.prashant.jobtracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportResult {
+    private long imported;
+    private long rejected;
+    // the first jobs.import.max-reported-errors problems; rejected has the full count
+    private List<RowError> errors;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RowError {
+        // 1-based record number in the uploaded body; for CSV the header is row 1
+        private long row;
+        private String message;
+    }
+}
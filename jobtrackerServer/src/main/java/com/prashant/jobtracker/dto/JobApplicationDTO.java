@@ -1,12 +1,18 @@
 package com.prashant.jobtracker.dto;
 
 import com.prashant.jobtracker.entity.enums.JobStatus;
+import com.prashant.jobtracker.entity.enums.ResumeStatus;
 import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 
 @Data
+@NoArgsConstructor
+// the read queries select straight into this constructor, so they list the columns in field order
+@AllArgsConstructor
 public class JobApplicationDTO {
 
     private Long id;
@@ -27,9 +33,17 @@ public class JobApplicationDTO {
 
     private String resumeUsed;
 
+    private ResumeStatus resumeStatus;
+
+    // download through GET /resumes/{resumeId}/download
+    private Long resumeId;
+
     private String jobId;
 
     @NotNull(message = "Applied date is required")
     @PastOrPresent(message = "Applied date cannot be in the future")
     private LocalDate appliedDate;
+
+    // read-only; send it back as If-Match: "<version>" to update only if nobody changed the job since
+    private Long version;
 }
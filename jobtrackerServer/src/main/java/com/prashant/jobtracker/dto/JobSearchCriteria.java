@@ -0,0 +1,24 @@
+package com.prashant.jobtracker.dto;
+
+import com.prashant.jobtracker.entity.enums.JobStatus;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+@Data
+public class JobSearchCriteria {
+
+    // any of the given statuses, e.g. ?status=APPLIED&status=INTERVIEWING
+    private Set<JobStatus> status;
+
+    // case-insensitive prefix of the company name
+    private String company;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+}
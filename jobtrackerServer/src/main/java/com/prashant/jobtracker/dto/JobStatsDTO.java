@@ -0,0 +1,22 @@
+package com.prashant.jobtracker.dto;
+
+import com.prashant.jobtracker.entity.enums.JobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class JobStatsDTO {
+    private long total;
+    private Map<JobStatus, Long> byStatus;
+    // keyed by the Monday of the ISO week the applications were sent in
+    private Map<String, Long> byWeek;
+    // keyed by trimmed, lower-cased company name
+    private Map<String, Long> byCompany;
+}
@@ -0,0 +1,11 @@
+package com.prashant.jobtracker.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class RefreshTokenRequestDTO {
+
+    @NotBlank(message = "Please provide the refresh token")
+    private String refreshToken;
+}
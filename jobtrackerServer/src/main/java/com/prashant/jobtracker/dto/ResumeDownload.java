@@ -0,0 +1,16 @@
+package com.prashant.jobtracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+// where to fetch a resume from: a local file served by us, or a remote link to redirect to
+@Getter
+@AllArgsConstructor
+public class ResumeDownload {
+    private final String link;
+    private final Path localFile;
+    private final String etag;
+    private final String filename;
+}
@@ -0,0 +1,16 @@
+package com.prashant.jobtracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+// an uploaded resume parked on local disk, with the SHA-256 of the spooled file
+@Getter
+@AllArgsConstructor
+public class SpooledResume {
+    private final Path path;
+    private final String sha256;
+    private final long size;
+    private final String originalFilename;
+}
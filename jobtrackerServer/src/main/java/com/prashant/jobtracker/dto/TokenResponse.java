@@ -0,0 +1,23 @@
+package com.prashant.jobtracker.dto;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+public class TokenResponse extends Response {
+    private String tokenType = "Bearer";
+    private String accessToken;
+    // seconds until the access token expires
+    private long expiresIn;
+    private String refreshToken;
+
+    public TokenResponse(String message, String accessToken, long expiresIn, String refreshToken) {
+        super(message);
+        this.accessToken = accessToken;
+        this.expiresIn = expiresIn;
+        this.refreshToken = refreshToken;
+    }
+}
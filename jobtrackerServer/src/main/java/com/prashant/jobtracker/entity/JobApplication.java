@@ -1,15 +1,25 @@
 package com.prashant.jobtracker.entity;
 
 import com.prashant.jobtracker.entity.enums.JobStatus;
+import com.prashant.jobtracker.entity.enums.ResumeStatus;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 
 import java.time.LocalDate;
+import java.util.Locale;
 
 @Entity
-@Table(name = "job_applications")
+@Table(name = "job_applications", indexes = {
+        @Index(name = "idx_job_user_applied", columnList = "user_id, applied_date"),
+        @Index(name = "idx_job_user_status", columnList = "user_id, status, applied_date"),
+        @Index(name = "idx_job_user_company", columnList = "user_id, company_norm, applied_date")
+})
 @Data
+// updates write the changed columns only
+@DynamicUpdate
 public class JobApplication {
 
     @Id
@@ -19,15 +29,26 @@ public class JobApplication {
     @Column(nullable = false)
     private String companyName;
 
+    // companyName trimmed and lower-cased, kept in step on every insert and update; lookups by company match on this
+    @Column(name = "company_norm")
+    private String companyNorm;
+
     private String jobId;
 
     @Column(nullable = false)
     private String jobRole;
 
 
-    @Column(nullable = false)
+    // copy of resume.link, filled in by the upload worker once the file reaches remote storage
     private String resumeUsed;
 
+    @Enumerated(EnumType.STRING)
+    private ResumeStatus resumeStatus;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "resume_id")
+    private Resume resume;
+
 
     @Column(nullable = false)
     private LocalDate appliedDate;
@@ -42,8 +63,23 @@ public class JobApplication {
     @Column(name = "status", nullable = false)
     private JobStatus status;
 
+    // the ETag of GET /jobs/{id} and the If-Match of its updates; bulk statements that bypass the entity bump it themselves.
+    // The default lets rows inserted over JDBC (import, pre-existing data) start at 0
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
 
+    @PrePersist
+    @PreUpdate
+    private void normalizeCompany() {
+        companyNorm = normalizeCompany(companyName);
+    }
 
+    // the one rule for company_norm, suggestions and stats buckets: " Google  LLC" and "google llc" match
+    public static String normalizeCompany(String companyName) {
+        return companyName == null ? null : companyName.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
 
     @Override
     public String toString() {
@@ -0,0 +1,26 @@
+package com.prashant.jobtracker.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * Version of one user's set of applications, bumped in the same transaction as every write
+ * to any of them. Conditional GETs on job listings are answered from this row alone.
+ */
+@Entity
+@Table(name = "job_collection_versions")
+@Data
+public class JobCollectionVersion {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(name = "modified_at", nullable = false)
+    private Instant modifiedAt;
+}
@@ -0,0 +1,46 @@
+package com.prashant.jobtracker.entity;
+
+import com.prashant.jobtracker.entity.enums.StatsDimension;
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * One pre-aggregated count of a user's applications, e.g. (STATUS, "APPLIED") or
+ * (WEEK, "2025-03-10"). Rows are adjusted in the same transaction as the job write.
+ */
+@Entity
+@Table(name = "job_stats_counters", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stats_user_dim_bucket", columnNames = {"user_id", "dimension", "bucket"})
+})
+@Data
+public class JobStatsCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private StatsDimension dimension;
+
+    @Column(nullable = false, length = 120)
+    private String bucket;
+
+    @Column(nullable = false)
+    private long total;
+
+    public static String weekBucket(LocalDate appliedDate) {
+        return appliedDate.with(DayOfWeek.MONDAY).toString();
+    }
+
+    public static String companyBucket(String companyName) {
+        String normalized = JobApplication.normalizeCompany(companyName);
+        return normalized.length() > 120 ? normalized.substring(0, 120) : normalized;
+    }
+}
@@ -0,0 +1,43 @@
+package com.prashant.jobtracker.entity;
+
+import com.prashant.jobtracker.entity.enums.ResumeStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * A stored resume file, addressed by the SHA-256 of its content so the same PDF attached to
+ * many applications is uploaded once per user. Rows backfilled from the old free-text
+ * resumeUsed links have no hash and are never matched by content.
+ */
+@Entity
+@Table(name = "resumes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_resume_user_hash", columnNames = {"user_id", "sha256"})
+})
+@Data
+public class Resume {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(length = 64)
+    private String sha256;
+
+    private long size;
+
+    private String originalFilename;
+
+    private String link;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ResumeStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
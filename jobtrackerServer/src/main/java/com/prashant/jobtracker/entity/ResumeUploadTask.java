@@ -0,0 +1,46 @@
+package com.prashant.jobtracker.entity;
+
+import com.prashant.jobtracker.entity.enums.UploadTaskStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox row for a resume waiting to be pushed to remote storage. It is written in the same
+ * transaction as its {@link Resume}, so an upload is never lost even if the process dies
+ * before the worker picks it up; the file itself waits in the local spool directory.
+ */
+@Entity
+@Table(name = "resume_upload_outbox", indexes = {
+        @Index(name = "idx_outbox_status_next", columnList = "status, next_attempt_at")
+})
+@Data
+public class ResumeUploadTask {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long resumeId;
+
+    @Column(nullable = false)
+    private String spoolPath;
+
+    private String originalFilename;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private UploadTaskStatus status;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime claimedAt;
+
+    @Column(length = 500)
+    private String lastError;
+}
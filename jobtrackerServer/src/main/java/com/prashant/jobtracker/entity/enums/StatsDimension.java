@@ -0,0 +1,7 @@
+package com.prashant.jobtracker.entity.enums;
+
+public enum StatsDimension {
+    STATUS,
+    WEEK,
+    COMPANY
+}
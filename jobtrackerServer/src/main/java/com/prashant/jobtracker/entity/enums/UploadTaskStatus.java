@@ -0,0 +1,8 @@
+package com.prashant.jobtracker.entity.enums;
+
+public enum UploadTaskStatus {
+    PENDING,
+    IN_PROGRESS,
+    DONE,
+    FAILED
+}
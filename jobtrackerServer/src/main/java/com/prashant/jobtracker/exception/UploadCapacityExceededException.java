@@ -0,0 +1,7 @@
+package com.prashant.jobtracker.exception;
+
+public class UploadCapacityExceededException extends RuntimeException {
+    public UploadCapacityExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,49 @@
+package com.prashant.jobtracker.mapper;
+
+import com.prashant.jobtracker.dto.JobApplicationDTO;
+import com.prashant.jobtracker.entity.JobApplication;
+import org.springframework.stereotype.Component;
+
+/**
+ * Field-by-field mapping between {@link JobApplication} and {@link JobApplicationDTO}.
+ * Plain getters/setters keep the list endpoints free of reflection; new fields must be added here.
+ */
+@Component
+public class JobApplicationMapper {
+
+    public JobApplicationDTO toDTO(JobApplication jobApplication) {
+        if (jobApplication == null)
+            return null;
+
+        JobApplicationDTO dto = new JobApplicationDTO();
+        dto.setId(jobApplication.getId());
+        dto.setCompanyName(jobApplication.getCompanyName());
+        dto.setJobRole(jobApplication.getJobRole());
+        dto.setComment(jobApplication.getComment());
+        dto.setStatus(jobApplication.getStatus());
+        dto.setResumeUsed(jobApplication.getResumeUsed());
+        dto.setResumeStatus(jobApplication.getResumeStatus());
+        // reading the id of a lazy proxy does not load the resume
+        dto.setResumeId(jobApplication.getResume() == null ? null : jobApplication.getResume().getId());
+        dto.setJobId(jobApplication.getJobId());
+        dto.setAppliedDate(jobApplication.getAppliedDate());
+        dto.setVersion(jobApplication.getVersion());
+        return dto;
+    }
+
+    public JobApplication toEntity(JobApplicationDTO dto) {
+        if (dto == null)
+            return null;
+
+        JobApplication jobApplication = new JobApplication();
+        jobApplication.setId(dto.getId());
+        jobApplication.setCompanyName(dto.getCompanyName());
+        jobApplication.setJobRole(dto.getJobRole());
+        jobApplication.setComment(dto.getComment());
+        jobApplication.setStatus(dto.getStatus());
+        jobApplication.setResumeUsed(dto.getResumeUsed());
+        jobApplication.setJobId(dto.getJobId());
+        jobApplication.setAppliedDate(dto.getAppliedDate());
+        return jobApplication;
+    }
+}
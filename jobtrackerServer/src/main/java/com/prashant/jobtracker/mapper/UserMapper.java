@@ -0,0 +1,33 @@
+package com.prashant.jobtracker.mapper;
+
+import com.prashant.jobtracker.dto.UserDTO;
+import com.prashant.jobtracker.entity.User;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserMapper {
+
+    // the password hash never leaves the entity
+    public UserDTO toDTO(User user) {
+        if (user == null)
+            return null;
+
+        UserDTO dto = new UserDTO();
+        dto.setId(user.getId());
+        dto.setName(user.getName());
+        dto.setEmail(user.getEmail());
+        return dto;
+    }
+
+    public User toEntity(UserDTO dto) {
+        if (dto == null)
+            return null;
+
+        User user = new User();
+        user.setId(dto.getId());
+        user.setName(dto.getName());
+        user.setEmail(dto.getEmail());
+        user.setPassword(dto.getPassword());
+        return user;
+    }
+}
@@ -0,0 +1,13 @@
+package com.prashant.jobtracker.repository;
+
+import com.prashant.jobtracker.entity.enums.JobStatus;
+
+import java.time.LocalDate;
+
+/**
+ * The columns of a job a partial update compares against and the derived data (statistics,
+ * search index, company suggestions) is kept in step with, read without loading the entity.
+ */
+public record EditableJobColumns(long version, JobStatus status, String companyName, String jobRole,
+                                 String comment, LocalDate appliedDate) {
+}
@@ -0,0 +1,24 @@
+package com.prashant.jobtracker.repository;
+
+import com.prashant.jobtracker.entity.JobCollectionVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public interface JobCollectionVersionRepository extends JpaRepository<JobCollectionVersion, Long> {
+
+    // atomic upsert, as for the stats counters; the row lock also orders concurrent writers of one user
+    @Modifying
+    @Query(value = "insert into job_collection_versions (user_id, version, modified_at) values (:userId, 1, :now) " +
+            "on duplicate key update version = version + 1, modified_at = :now", nativeQuery = true)
+    int bump(@Param("userId") Long userId, @Param("now") Instant now);
+
+    @Query("select v.version from JobCollectionVersion v where v.userId = :userId")
+    Optional<Long> findVersion(@Param("userId") Long userId);
+}
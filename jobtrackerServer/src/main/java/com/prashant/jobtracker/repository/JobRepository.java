@@ -1,26 +1,105 @@
 package com.prashant.jobtracker.repository;
 
+import com.prashant.jobtracker.dto.JobApplicationDTO;
 import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.entity.Resume;
 import com.prashant.jobtracker.entity.enums.JobStatus;
-import org.springframework.data.domain.Page;
+import com.prashant.jobtracker.entity.enums.ResumeStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface JobRepository extends JpaRepository<JobApplication,Long> {
+public interface JobRepository extends JpaRepository<JobApplication,Long>, JpaSpecificationExecutor<JobApplication>, JobRepositoryCustom {
 
+    // The per-user lookups compare j.user.id, which is the user_id column itself. A derived
+    // findByUserId... left-joins users and filters on users.id, which hides the predicate from
+    // the job_applications indexes and turns every lookup into a table scan.
 
-    List<JobApplication> findByAppliedDateBetween(LocalDate from, LocalDate to);
+    // The read paths select the DTO's columns straight into JobApplicationDTO: no managed entities, no
+    // join or second select for the eager user, and j.resume.id is read from the foreign key column.
+    String SELECT_DTO = "select new com.prashant.jobtracker.dto.JobApplicationDTO(j.id, j.companyName, j.jobRole, j.comment, "
+            + "j.status, j.resumeUsed, j.resumeStatus, j.resume.id, j.jobId, j.appliedDate, j.version) from JobApplication j ";
 
-    Page<JobApplication> findByUserId(Long userId, Pageable pageDetails);
+    // The single-query reads carry their own read-only transaction; the service checks its read cache first.
 
-    List<JobApplication> findAllByCompanyName(String company);
+    // Slice: the listing never exposes a total, so skip the COUNT(*) a Page would issue
+    @Transactional(readOnly = true)
+    @Query(SELECT_DTO + "where j.user.id = :userId")
+    Slice<JobApplicationDTO> findByUserId(@Param("userId") Long userId, Pageable pageDetails);
 
-    List<JobApplication> findAllByStatusAndUserId(JobStatus status, Long id);
+    // idx_job_user_applied
+    @Transactional(readOnly = true)
+    @Query(SELECT_DTO + "where j.user.id = :userId and j.appliedDate between :from and :to")
+    Slice<JobApplicationDTO> findByUserIdAndAppliedDateBetween(@Param("userId") Long userId, @Param("from") LocalDate from,
+                                                               @Param("to") LocalDate to, Pageable pageDetails);
+
+    // idx_job_user_company: equality on (user_id, company_norm), then already in applied_date order
+    @Transactional(readOnly = true)
+    @Query(SELECT_DTO + "where j.user.id = :userId and j.companyNorm = :companyNorm")
+    Slice<JobApplicationDTO> findByUserIdAndCompanyNorm(@Param("userId") Long userId, @Param("companyNorm") String companyNorm,
+                                                        Pageable pageDetails);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_DTO + "where j.status = :status and j.user.id = :userId")
+    List<JobApplicationDTO> findAllByStatusAndUserId(@Param("status") JobStatus status, @Param("userId") Long userId);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_DTO + "where j.id = :id and j.user.id = :userId")
+    Optional<JobApplicationDTO> findDTOById(@Param("id") Long id, @Param("userId") Long userId);
+
+    // the hits of a text search, which only ever come from the user's own index
+    @Query(SELECT_DTO + "where j.user.id = :userId and j.id in :ids")
+    List<JobApplicationDTO> findDTOsByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    // empty for a job of another user, the same as for a missing one
+    @Query("select new com.prashant.jobtracker.repository.EditableJobColumns(j.version, j.status, j.companyName, j.jobRole, j.comment, j.appliedDate) "
+            + "from JobApplication j where j.id = :id and j.user.id = :userId")
+    Optional<EditableJobColumns> findEditableColumns(@Param("id") Long id, @Param("userId") Long userId);
+
+    // empty for a job of another user, the same as for a missing one
+    @Query("select j from JobApplication j where j.id = :id and j.user.id = :userId")
+    Optional<JobApplication> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("update JobApplication j set j.resumeUsed = :link, j.resumeStatus = :status, j.version = j.version + 1 " +
+            "where j.resume.id = :resumeId")
+    int updateResumeLink(@Param("resumeId") Long resumeId, @Param("link") String link, @Param("status") ResumeStatus status);
+
+    // legacy rows that only carry a free-text resume link, one entry per (user, link)
+    @Query("select distinct j.user.id, j.resumeUsed from JobApplication j where j.resume is null and j.resumeUsed is not null")
+    List<Object[]> findUnlinkedResumeLinks();
+
+    @Modifying
+    @Query("update JobApplication j set j.resume = :resume, j.resumeStatus = com.prashant.jobtracker.entity.enums.ResumeStatus.UPLOADED, " +
+            "j.version = j.version + 1 " +
+            "where j.user.id = :userId and j.resumeUsed = :link and j.resume is null")
+    int linkResume(@Param("userId") Long userId, @Param("link") String link, @Param("resume") Resume resume);
+
+    @Query("select j.status, j.companyName, j.appliedDate from JobApplication j where j.user.id = :userId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Object[]> streamStatsColumnsByUserId(@Param("userId") Long userId);
+
+    @Query("select j.id, j.companyName, j.jobRole, j.comment from JobApplication j where j.user.id = :userId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Object[]> streamSearchColumnsByUserId(@Param("userId") Long userId);
+
+    @Query("select j.id, j.companyName from JobApplication j where j.user.id = :userId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Object[]> streamCompanyNamesByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,33 @@
+package com.prashant.jobtracker.repository;
+
+import com.prashant.jobtracker.dto.JobApplicationDTO;
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.entity.enums.JobStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-based statements over {@link JobSpecifications} predicates that Spring Data does not derive.
+ */
+public interface JobRepositoryCustom {
+
+    // single UPDATE ... WHERE, no entities are loaded
+    int updateStatus(Specification<JobApplication> spec, JobStatus status);
+
+    // single UPDATE of just the given attributes of one of the user's jobs, only while it is still at the given version
+    int patch(Long id, Long userId, long version, Map<String, Object> changes);
+
+    // entity-free counterparts of findAll(spec, pageable) and findBy(spec, q -> q.sortBy(sort).limit(limit).all());
+    // as there, the COUNT(*) is skipped when the page already tells the total
+    Page<JobApplicationDTO> findDTOs(Specification<JobApplication> spec, Pageable pageable);
+
+    List<JobApplicationDTO> findDTOs(Specification<JobApplication> spec, Sort sort, int limit);
+
+    // status, companyName, appliedDate, count of the matching rows, grouped by the first three
+    List<Object[]> countStatsColumns(Specification<JobApplication> spec);
+}
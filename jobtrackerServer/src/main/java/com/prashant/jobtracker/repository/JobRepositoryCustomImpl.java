@@ -0,0 +1,101 @@
+package com.prashant.jobtracker.repository;
+
+import com.prashant.jobtracker.dto.JobApplicationDTO;
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.entity.enums.JobStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.Map;
+
+class JobRepositoryCustomImpl implements JobRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int updateStatus(Specification<JobApplication> spec, JobStatus status) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<JobApplication> update = cb.createCriteriaUpdate(JobApplication.class);
+        Root<JobApplication> root = update.from(JobApplication.class);
+        // same as SimpleJpaRepository.delete(Specification): the predicates never look at the query
+        update.set(root.<JobStatus>get("status"), status)
+                .set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L))
+                .where(spec.toPredicate(root, null, cb));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    public int patch(Long id, Long userId, long version, Map<String, Object> changes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<JobApplication> update = cb.createCriteriaUpdate(JobApplication.class);
+        Root<JobApplication> root = update.from(JobApplication.class);
+        changes.forEach(update::set);
+        // @PreUpdate does not run for statements, so the normalized copy is written here
+        if (changes.containsKey("companyName"))
+            update.set(root.<String>get("companyNorm"), JobApplication.normalizeCompany((String) changes.get("companyName")));
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L))
+                .where(cb.equal(root.get("id"), id),
+                        cb.equal(root.get("user").get("id"), userId),
+                        cb.equal(root.get("version"), version));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    public Page<JobApplicationDTO> findDTOs(Specification<JobApplication> spec, Pageable pageable) {
+        List<JobApplicationDTO> content = dtoQuery(spec, pageable.getSort())
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<JobApplicationDTO> findDTOs(Specification<JobApplication> spec, Sort sort, int limit) {
+        return dtoQuery(spec, sort).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<Object[]> countStatsColumns(Specification<JobApplication> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<JobApplication> root = query.from(JobApplication.class);
+        query.multiselect(root.get("status"), root.get("companyName"), root.get("appliedDate"), cb.count(root))
+                .where(spec.toPredicate(root, query, cb))
+                .groupBy(root.get("status"), root.get("companyName"), root.get("appliedDate"));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    // the columns of JobRepository.SELECT_DTO
+    private TypedQuery<JobApplicationDTO> dtoQuery(Specification<JobApplication> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<JobApplicationDTO> query = cb.createQuery(JobApplicationDTO.class);
+        Root<JobApplication> root = query.from(JobApplication.class);
+        query.select(cb.construct(JobApplicationDTO.class, root.get("id"), root.get("companyName"), root.get("jobRole"),
+                        root.get("comment"), root.get("status"), root.get("resumeUsed"), root.get("resumeStatus"),
+                        root.get("resume").get("id"), root.get("jobId"), root.get("appliedDate"), root.get("version")))
+                .where(spec.toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<JobApplication> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<JobApplication> root = query.from(JobApplication.class);
+        query.select(cb.count(root)).where(spec.toPredicate(root, query, cb));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,84 @@
+package com.prashant.jobtracker.repository;
+
+import com.prashant.jobtracker.dto.JobSearchCriteria;
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.entity.enums.JobStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Composable predicates over {@link JobApplication}. Every search is built by and-ing
+ * these together so that any combination of filters becomes a single SQL statement.
+ */
+public final class JobSpecifications {
+
+    private JobSpecifications() {
+    }
+
+    public static Specification<JobApplication> ownedBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    public static Specification<JobApplication> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    public static Specification<JobApplication> statusNot(JobStatus status) {
+        return (root, query, cb) -> cb.notEqual(root.get("status"), status);
+    }
+
+    public static Specification<JobApplication> statusIn(Collection<JobStatus> statuses) {
+        if (statuses == null || statuses.isEmpty())
+            return null;
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<JobApplication> companyStartsWith(String prefix) {
+        if (prefix == null || prefix.isBlank())
+            return null;
+        String pattern = escapeLike(JobApplication.normalizeCompany(prefix)) + "%";
+        return (root, query, cb) -> cb.like(root.get("companyNorm"), pattern, '\\');
+    }
+
+    public static Specification<JobApplication> appliedOnOrAfter(LocalDate from) {
+        if (from == null)
+            return null;
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("appliedDate"), from);
+    }
+
+    public static Specification<JobApplication> appliedOnOrBefore(LocalDate to) {
+        if (to == null)
+            return null;
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("appliedDate"), to);
+    }
+
+    /**
+     * Keyset predicate for newest-first ordering: rows strictly after (appliedDate, id).
+     */
+    public static Specification<JobApplication> seekAfter(LocalDate appliedDate, Long id) {
+        if (appliedDate == null || id == null)
+            return null;
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("appliedDate"), appliedDate),
+                cb.and(cb.equal(root.get("appliedDate"), appliedDate), cb.lessThan(root.get("id"), id))
+        );
+    }
+
+    public static Specification<JobApplication> matching(Long userId, JobSearchCriteria criteria) {
+        return Specification.allOf(
+                ownedBy(userId),
+                statusIn(criteria.getStatus()),
+                companyStartsWith(criteria.getCompany()),
+                appliedOnOrAfter(criteria.getFrom()),
+                appliedOnOrBefore(criteria.getTo())
+        );
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,27 @@
+package com.prashant.jobtracker.repository;
+
+import com.prashant.jobtracker.entity.JobStatsCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JobStatsCounterRepository extends JpaRepository<JobStatsCounter, Long> {
+
+    List<JobStatsCounter> findByUserId(Long userId);
+
+    // single-statement atomic upsert; concurrent writers serialize on the row instead of racing a read-modify-write
+    @Modifying
+    @Query(value = "insert into job_stats_counters (user_id, dimension, bucket, total) values (:userId, :dimension, :bucket, :delta) " +
+            "on duplicate key update total = total + :delta", nativeQuery = true)
+    int increment(@Param("userId") Long userId, @Param("dimension") String dimension,
+                  @Param("bucket") String bucket, @Param("delta") long delta);
+
+    @Modifying
+    @Query("delete from JobStatsCounter c where c.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
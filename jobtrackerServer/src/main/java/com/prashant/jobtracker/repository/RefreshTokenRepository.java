@@ -0,0 +1,37 @@
+package com.prashant.jobtracker.repository;
+
+import com.prashant.jobtracker.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    // a plain insert; save() would first look the freshly generated id up
+    @Transactional
+    @Modifying
+    @Query(value = "insert into refresh_tokens (id, user_id, expires_at) values (:id, :userId, :expiresAt)", nativeQuery = true)
+    void register(@Param("id") String id, @Param("userId") Long userId, @Param("expiresAt") Instant expiresAt);
+
+    // 1 for the one caller that removed the row, 0 for everyone presenting the same token after it
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken t where t.id = :id")
+    int consume(@Param("id") String id);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken t where t.userId = :userId")
+    int revokeAllOfUser(@Param("userId") Long userId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,28 @@
+package com.prashant.jobtracker.repository;
+
+import com.prashant.jobtracker.entity.Resume;
+import com.prashant.jobtracker.entity.enums.ResumeStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ResumeRepository extends JpaRepository<Resume, Long> {
+
+    Optional<Resume> findByUserIdAndSha256(Long userId, String sha256);
+
+    // shared lock held while a job is linked to the resume; the finishing upload updates the row exclusively
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select r from Resume r where r.id = :id")
+    Optional<Resume> findForLinking(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Resume r set r.link = :link, r.status = :status where r.id = :id")
+    int updateLink(@Param("id") Long id, @Param("link") String link, @Param("status") ResumeStatus status);
+}
@@ -0,0 +1,32 @@
+package com.prashant.jobtracker.repository;
+
+import com.prashant.jobtracker.entity.ResumeUploadTask;
+import com.prashant.jobtracker.entity.enums.UploadTaskStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ResumeUploadTaskRepository extends JpaRepository<ResumeUploadTask, Long> {
+
+    @Query("select t.id from ResumeUploadTask t where t.status = :status and t.nextAttemptAt <= :now order by t.nextAttemptAt")
+    List<Long> findDueIds(@Param("status") UploadTaskStatus status, @Param("now") LocalDateTime now, Pageable limit);
+
+    // compare-and-set so the poller and the after-commit dispatch never run the same task twice
+    @Modifying
+    @Query("update ResumeUploadTask t set t.status = com.prashant.jobtracker.entity.enums.UploadTaskStatus.IN_PROGRESS, t.claimedAt = :now " +
+            "where t.id = :id and t.status = com.prashant.jobtracker.entity.enums.UploadTaskStatus.PENDING")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // tasks whose worker died mid-upload go back to the queue
+    @Modifying
+    @Query("update ResumeUploadTask t set t.status = com.prashant.jobtracker.entity.enums.UploadTaskStatus.PENDING " +
+            "where t.status = com.prashant.jobtracker.entity.enums.UploadTaskStatus.IN_PROGRESS and t.claimedAt < :before")
+    int releaseStale(@Param("before") LocalDateTime before);
+}
@@ -2,11 +2,16 @@ package com.prashant.jobtracker.repository;
 
 import com.prashant.jobtracker.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User,Long> {
     Optional<User> findByEmail(String email);
+
+    @Query("select u.id from User u")
+    List<Long> findAllIds();
 }
@@ -0,0 +1,106 @@
+package com.prashant.jobtracker.security;
+
+import com.prashant.jobtracker.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token buckets for the password endpoints, one per account and one per client address. Checked
+ * before any hashing happens, so throttled attempts cost next to nothing. Buckets that have
+ * refilled completely carry no state and are dropped periodically.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final Map<String, TokenBucket> accountBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> addressBuckets = new ConcurrentHashMap<>();
+    private final int accountCapacity;
+    private final int accountRefillPerMinute;
+    private final int addressCapacity;
+    private final int addressRefillPerMinute;
+
+    public LoginRateLimiter(
+            @Value("${auth.rate-limit.account.capacity}") int accountCapacity,
+            @Value("${auth.rate-limit.account.refill-per-minute}") int accountRefillPerMinute,
+            @Value("${auth.rate-limit.address.capacity}") int addressCapacity,
+            @Value("${auth.rate-limit.address.refill-per-minute}") int addressRefillPerMinute) {
+        this.accountCapacity = accountCapacity;
+        this.accountRefillPerMinute = accountRefillPerMinute;
+        this.addressCapacity = addressCapacity;
+        this.addressRefillPerMinute = addressRefillPerMinute;
+    }
+
+    public void acquireLogin(String email, String address) {
+        acquireForAddress(address);
+        String account = email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+        TokenBucket bucket = accountBuckets.computeIfAbsent(account,
+                key -> new TokenBucket(accountCapacity, accountRefillPerMinute));
+        if (!bucket.tryConsume())
+            throw new TooManyRequestsException("Too many sign-in attempts for this account, please retry later");
+    }
+
+    public void acquireForAddress(String address) {
+        TokenBucket bucket = addressBuckets.computeIfAbsent(address,
+                key -> new TokenBucket(addressCapacity, addressRefillPerMinute));
+        if (!bucket.tryConsume())
+            throw new TooManyRequestsException("Too many requests from this address, please retry later");
+    }
+
+    @Scheduled(fixedDelayString = "${auth.rate-limit.purge-ms}")
+    public void purgeIdle() {
+        accountBuckets.values().removeIf(TokenBucket::isFull);
+        addressBuckets.values().removeIf(TokenBucket::isFull);
+    }
+
+    // a ReentrantLock rather than synchronized, which would pin a waiting virtual thread to its carrier
+    private static final class TokenBucket {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long refilledAt;
+
+        TokenBucket(int capacity, int refillPerMinute) {
+            this.capacity = capacity;
+            this.tokensPerNano = refillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+            this.tokens = capacity;
+            this.refilledAt = System.nanoTime();
+        }
+
+        boolean tryConsume() {
+            lock.lock();
+            try {
+                refill();
+                if (tokens < 1)
+                    return false;
+                tokens--;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean isFull() {
+            lock.lock();
+            try {
+                refill();
+                return tokens >= capacity;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+        }
+    }
+}
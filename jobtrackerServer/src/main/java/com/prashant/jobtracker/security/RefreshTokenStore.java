@@ -0,0 +1,45 @@
+package com.prashant.jobtracker.security;
+
+import com.prashant.jobtracker.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * The refresh tokens that may still be used, in the database rather than in {@link TokenDenyList}:
+ * a refresh token lives for days and rotation only stops a replayed one if every node sees that
+ * it was used. Costs one write per login and per refresh, none per authenticated request.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.mode", havingValue = "token")
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    public void register(UUID tokenId, Long userId, long expiresAtEpochSecond) {
+        refreshTokenRepository.register(tokenId.toString(), userId, Instant.ofEpochSecond(expiresAtEpochSecond));
+    }
+
+    // true for exactly one caller, on whichever node, as long as the token was neither used nor revoked
+    public boolean consume(UUID tokenId) {
+        return refreshTokenRepository.consume(tokenId.toString()) == 1;
+    }
+
+    // a used refresh token presented again means a copy is in someone else's hands
+    public void revokeAll(Long userId) {
+        int revoked = refreshTokenRepository.revokeAllOfUser(userId);
+        log.warn("Refresh token reuse for user {}, revoked its {} other refresh tokens", userId, revoked);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.token.deny-list-purge-ms}")
+    public void purgeExpired() {
+        refreshTokenRepository.deleteExpired(Instant.now());
+    }
+}
@@ -0,0 +1,41 @@
+package com.prashant.jobtracker.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ids of revoked access tokens, each kept only until the token would have expired anyway. With
+ * short-lived access tokens the list stays small: one UUID and one long per recent logout.
+ * Refresh tokens are tracked across nodes by {@link RefreshTokenStore} instead.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.mode", havingValue = "token")
+public class TokenDenyList {
+
+    private final Map<UUID, Long> deniedUntil = new ConcurrentHashMap<>();
+
+    public void deny(UUID tokenId, long expiresAtEpochSecond) {
+        if (expiresAtEpochSecond > Instant.now().getEpochSecond())
+            deniedUntil.put(tokenId, expiresAtEpochSecond);
+    }
+
+    public boolean isDenied(UUID tokenId) {
+        return deniedUntil.containsKey(tokenId);
+    }
+
+    public int size() {
+        return deniedUntil.size();
+    }
+
+    @Scheduled(fixedDelayString = "${auth.token.deny-list-purge-ms}")
+    public void purgeExpired() {
+        long now = Instant.now().getEpochSecond();
+        deniedUntil.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+}
@@ -0,0 +1,176 @@
+package com.prashant.jobtracker.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prashant.jobtracker.dto.TokenResponse;
+import com.prashant.jobtracker.exception.InvalidTokenException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Issues and checks HS256-signed JWTs for the stateless auth mode. Verifying an access token needs
+ * only the shared secret and the local deny list, so any node can serve any request without a
+ * session store or a database lookup; a revoked access token stays valid on the other nodes for
+ * the rest of its short lifetime. Refresh tokens are long-lived, so their use and revocation go
+ * through the database in {@link RefreshTokenStore}.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.mode", havingValue = "token")
+public class TokenService {
+
+    static final String ACCESS = "access";
+    static final String REFRESH = "refresh";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String HEADER = ENCODER.encodeToString(
+            "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+    private final SecretKeySpec key;
+    private final Duration accessTtl;
+    private final Duration refreshTtl;
+    private final ObjectMapper objectMapper;
+    private final TokenDenyList denyList;
+    private final RefreshTokenStore refreshTokenStore;
+    // Mac instances are not thread-safe and costly to look up; an initialised one is cloned per call
+    // instead of cached per thread, since virtual threads never reuse a thread-local
+    private final Mac prototype;
+
+    public TokenService(
+            @Value("${auth.token.secret}") String secret,
+            @Value("${auth.token.access-ttl}") Duration accessTtl,
+            @Value("${auth.token.refresh-ttl}") Duration refreshTtl,
+            ObjectMapper objectMapper,
+            TokenDenyList denyList,
+            RefreshTokenStore refreshTokenStore) {
+        byte[] secretBytes = secret == null ? new byte[0] : Base64.getDecoder().decode(secret);
+        if (secretBytes.length < 32)
+            throw new IllegalStateException("auth.token.secret must be a base64 encoded key of at least 256 bits");
+
+        this.key = new SecretKeySpec(secretBytes, ALGORITHM);
+        this.accessTtl = accessTtl;
+        this.refreshTtl = refreshTtl;
+        this.objectMapper = objectMapper;
+        this.denyList = denyList;
+        this.refreshTokenStore = refreshTokenStore;
+        this.prototype = newMac();
+    }
+
+    public TokenResponse issue(UserPrincipal user) {
+        TokenClaims refresh = claims(user, REFRESH, refreshTtl);
+        refreshTokenStore.register(refresh.jti(), user.getId(), refresh.exp());
+        return new TokenResponse("Login successful",
+                sign(claims(user, ACCESS, accessTtl)),
+                accessTtl.toSeconds(),
+                sign(refresh));
+    }
+
+    public UserPrincipal authenticate(String accessToken) {
+        return verify(accessToken, ACCESS).toPrincipal();
+    }
+
+    // refresh tokens are single use on every node: the presented one is consumed and a new pair is returned.
+    // Presenting it again revokes all the user's refresh tokens, the thief's and the owner's alike
+    public TokenResponse refresh(String refreshToken) {
+        TokenClaims claims = verify(refreshToken, REFRESH);
+        if (!refreshTokenStore.consume(claims.jti())) {
+            refreshTokenStore.revokeAll(claims.toPrincipal().getId());
+            throw new InvalidTokenException("Refresh token has already been used or revoked");
+        }
+        return issue(claims.toPrincipal());
+    }
+
+    // unreadable or already expired tokens need no revoking
+    public void revoke(String token) {
+        try {
+            TokenClaims claims = parse(token);
+            if (REFRESH.equals(claims.typ()))
+                refreshTokenStore.consume(claims.jti());
+            else
+                denyList.deny(claims.jti(), claims.exp());
+        } catch (InvalidTokenException ignored) {
+        }
+    }
+
+    private TokenClaims claims(UserPrincipal user, String type, Duration ttl) {
+        long now = Instant.now().getEpochSecond();
+        return new TokenClaims(UUID.randomUUID(), user.getId().toString(), user.getEmail(), user.getName(),
+                type, now, now + ttl.toSeconds());
+    }
+
+    private TokenClaims verify(String token, String expectedType) {
+        TokenClaims claims = parse(token);
+        if (!expectedType.equals(claims.typ()))
+            throw new InvalidTokenException("Wrong token type");
+        if (claims.exp() <= Instant.now().getEpochSecond())
+            throw new InvalidTokenException("Token has expired");
+        if (denyList.isDenied(claims.jti()))
+            throw new InvalidTokenException("Token has been revoked");
+        return claims;
+    }
+
+    private TokenClaims parse(String token) {
+        if (token == null)
+            throw new InvalidTokenException("Token is missing");
+        int firstDot = token.indexOf('.');
+        int lastDot = token.lastIndexOf('.');
+        if (firstDot < 0 || firstDot == lastDot || !token.startsWith(HEADER + "."))
+            throw new InvalidTokenException("Malformed token");
+
+        try {
+            byte[] expected = mac(token.substring(0, lastDot));
+            byte[] actual = DECODER.decode(token.substring(lastDot + 1));
+            if (!MessageDigest.isEqual(expected, actual))
+                throw new InvalidTokenException("Invalid token signature");
+            return objectMapper.readValue(DECODER.decode(token.substring(firstDot + 1, lastDot)), TokenClaims.class);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new InvalidTokenException("Malformed token");
+        }
+    }
+
+    private String sign(TokenClaims claims) {
+        try {
+            String signingInput = HEADER + "." + ENCODER.encodeToString(objectMapper.writeValueAsBytes(claims));
+            return signingInput + "." + ENCODER.encodeToString(mac(signingInput));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not serialize token claims", e);
+        }
+    }
+
+    private byte[] mac(String signingInput) {
+        try {
+            return ((Mac) prototype.clone()).doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // registered JWT claim names, plus the principal fields so verifying needs no lookup
+    record TokenClaims(UUID jti, String sub, String email, String name, String typ, long iat, long exp) {
+        UserPrincipal toPrincipal() {
+            return new UserPrincipal(Long.valueOf(sub), email, name);
+        }
+    }
+}
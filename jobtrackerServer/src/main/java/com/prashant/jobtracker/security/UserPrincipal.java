@@ -0,0 +1,33 @@
+package com.prashant.jobtracker.security;
+
+import com.prashant.jobtracker.entity.User;
+import lombok.Value;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * What the security context keeps about the logged-in user. It lives in the HTTP session for
+ * as long as the user stays logged in, so it holds only the identifiers the services need:
+ * no password hash and no JPA state that could be lazily loaded outside a persistence context.
+ */
+@Value
+public class UserPrincipal implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    Long id;
+    String email;
+    String name;
+
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(user.getId(), user.getEmail(), user.getName());
+    }
+
+    // Authentication.getName() falls back to toString() for principals that aren't UserDetails
+    @Override
+    public String toString() {
+        return email;
+    }
+}
@@ -2,8 +2,22 @@ package com.prashant.jobtracker.service;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Path;
 
+/**
+ * Storage backend for uploaded files, selected with {@code storage.backend}
+ * ({@code cloudinary} or {@code local}). Upload methods return the link saved on the entity.
+ */
 public interface CloudinaryService {
     String uploadImage(MultipartFile file);
     String uploadPdf(MultipartFile file);
+    String uploadPdf(Path file);
+
+    /**
+     * The file behind a link this backend returned, when it lives on local disk and can be
+     * served directly; {@code null} for remote backends, whose links are public URLs.
+     */
+    default Path resolveLocal(String link) {
+        return null;
+    }
 }
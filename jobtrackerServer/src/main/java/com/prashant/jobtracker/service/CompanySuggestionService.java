@@ -0,0 +1,21 @@
+package com.prashant.jobtracker.service;
+
+import com.prashant.jobtracker.dto.CompanySuggestionDTO;
+import com.prashant.jobtracker.entity.JobApplication;
+
+import java.util.List;
+
+public interface CompanySuggestionService {
+
+    List<CompanySuggestionDTO> suggest(String prefix, int limit);
+
+    // the record* methods apply once the surrounding transaction commits, as for JobTextSearchService
+
+    void recordSaved(JobApplication job, long version);
+
+    void recordRemoved(JobApplication job, long version);
+
+    void recordUnchanged(Long userId, long version);
+
+    void recordBulkChange(Long userId);
+}
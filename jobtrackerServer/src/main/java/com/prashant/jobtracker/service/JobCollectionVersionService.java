@@ -0,0 +1,21 @@
+package com.prashant.jobtracker.service;
+
+import com.prashant.jobtracker.entity.JobCollectionVersion;
+
+public interface JobCollectionVersionService {
+
+    // the version JobCollectionETagInterceptor read for the current request, if it ran
+    String REQUEST_ATTRIBUTE = JobCollectionVersionService.class.getName() + ".current";
+
+    // joins the writing transaction, so the new version becomes visible together with the write; returns
+    // that version, which the row lock makes this transaction's own until it commits
+    long bump(Long userId);
+
+    // read from the database every time, so a write on another node is seen at once;
+    // version 0 and no modification time for a user who never wrote anything
+    JobCollectionVersion current(Long userId);
+
+    // the version the ETag interceptor already read for this request, so a listing doesn't select it twice;
+    // read from the database like current() outside such a request
+    long currentVersion(Long userId);
+}
@@ -0,0 +1,11 @@
+package com.prashant.jobtracker.service;
+
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface JobExportService {
+
+    void exportJobs(MediaType format, OutputStream out) throws IOException;
+}
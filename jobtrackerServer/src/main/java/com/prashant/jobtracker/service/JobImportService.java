@@ -0,0 +1,11 @@
+package com.prashant.jobtracker.service;
+
+import com.prashant.jobtracker.dto.ImportResult;
+import org.springframework.http.MediaType;
+
+import java.io.InputStream;
+
+public interface JobImportService {
+
+    ImportResult importJobs(InputStream body, MediaType contentType);
+}
@@ -0,0 +1,16 @@
+package com.prashant.jobtracker.service;
+
+import java.util.function.Supplier;
+
+/**
+ * In-process cache of a user's job reads: single jobs and listings. Entries belong to the
+ * collection version they were read at, so a write on any node makes them unreachable.
+ */
+public interface JobReadCache {
+
+    // the cached result of the listing query for this user, or the loader's, which is then cached; callers must not modify it
+    <T> T get(Long userId, Object query, Supplier<T> loader);
+
+    // the same for one job; a null result is not cached
+    <T> T getJob(Long userId, Long jobId, Supplier<T> loader);
+}
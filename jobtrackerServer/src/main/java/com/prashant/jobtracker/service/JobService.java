@@ -1,12 +1,19 @@
 package com.prashant.jobtracker.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.prashant.jobtracker.dto.BulkJobRequestDTO;
+import com.prashant.jobtracker.dto.BulkResult;
+import com.prashant.jobtracker.dto.CursorPage;
 import com.prashant.jobtracker.dto.JobApplicationDTO;
+import com.prashant.jobtracker.dto.JobSearchCriteria;
+import com.prashant.jobtracker.dto.PageResponse;
 import com.prashant.jobtracker.dto.Response;
 import com.prashant.jobtracker.entity.enums.JobStatus;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 public interface JobService {
 
@@ -18,12 +25,24 @@ public interface JobService {
 
     List<JobApplicationDTO> getAllJobs(int page);
 
-    List<JobApplicationDTO> getJobsBetweenDates(LocalDate from, LocalDate to);
+    List<JobApplicationDTO> getJobsBetweenDates(LocalDate from, LocalDate to, int page, int size);
 
-    JobApplicationDTO updateJob(Long id, JobApplicationDTO jobApplicationDTO);
+    // expectedVersions from If-Match; null updates unconditionally
+    JobApplicationDTO updateJob(Long id, JobApplicationDTO jobApplicationDTO, Set<Long> expectedVersions);
 
+    // JSON Merge Patch (RFC 7396) of companyName, jobRole, comment and status; returns the job's version afterwards
+    long patchJob(Long id, JsonNode patch, Set<Long> expectedVersions);
 
-    List<JobApplicationDTO> getJobsByCompany(String companyName);
+    BulkResult updateStatuses(BulkJobRequestDTO request);
+
+    BulkResult deleteJobs(BulkJobRequestDTO request);
+
+
+    List<JobApplicationDTO> getJobsByCompany(String companyName, int page, int size);
 
     List<JobApplicationDTO> getJobsByStatus(JobStatus status);
+
+    PageResponse<JobApplicationDTO> searchJobs(JobSearchCriteria criteria, int page, int size, String sort);
+
+    CursorPage<JobApplicationDTO> scrollJobs(JobSearchCriteria criteria, String cursor, int size, boolean withTotal);
 }
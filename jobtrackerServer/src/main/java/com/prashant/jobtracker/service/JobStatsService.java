@@ -0,0 +1,30 @@
+package com.prashant.jobtracker.service;
+
+import com.prashant.jobtracker.dto.JobStatsDTO;
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.entity.enums.JobStatus;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface JobStatsService {
+
+    JobStatsDTO getStats();
+
+    void recordAdded(JobApplication job);
+
+    void recordAdded(Long userId, Collection<JobApplication> jobs);
+
+    void recordRemoved(JobApplication job);
+
+    void recordChanged(JobApplication job, JobStatus previousStatus, String previousCompany);
+
+    // groups as returned by JobRepository.countStatsColumns just before a bulk statement
+    void recordRemoved(Long userId, List<Object[]> removedGroups, long affected);
+
+    void recordStatusChanged(Long userId, List<Object[]> changedGroups, JobStatus status, long affected);
+
+    void rebuild(Long userId);
+
+    void rebuildAll();
+}
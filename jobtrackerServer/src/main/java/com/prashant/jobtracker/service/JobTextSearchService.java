@@ -0,0 +1,24 @@
+package com.prashant.jobtracker.service;
+
+import com.prashant.jobtracker.dto.JobApplicationDTO;
+import com.prashant.jobtracker.entity.JobApplication;
+
+import java.util.List;
+
+public interface JobTextSearchService {
+
+    List<JobApplicationDTO> search(String query, int limit);
+
+    // the record* methods apply to the in-memory index once the surrounding transaction commits; version is
+    // what JobCollectionVersionService.bump returned for the write
+
+    void recordSaved(JobApplication job, long version);
+
+    void recordRemoved(JobApplication job, long version);
+
+    // a write that leaves the indexed columns alone, so the index stays in step with the version
+    void recordUnchanged(Long userId, long version);
+
+    // for set-based writes whose rows aren't known one by one; the index is rebuilt on the next search
+    void recordBulkChange(Long userId);
+}
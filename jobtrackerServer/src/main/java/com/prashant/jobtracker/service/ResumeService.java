@@ -0,0 +1,8 @@
+package com.prashant.jobtracker.service;
+
+import com.prashant.jobtracker.dto.ResumeDownload;
+
+public interface ResumeService {
+
+    ResumeDownload getDownload(Long resumeId);
+}
@@ -0,0 +1,18 @@
+package com.prashant.jobtracker.service;
+
+import com.prashant.jobtracker.dto.SpooledResume;
+import com.prashant.jobtracker.entity.Resume;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Path;
+
+public interface ResumeUploadService {
+
+    SpooledResume spool(MultipartFile file);
+
+    Resume findOrStore(Long userId, SpooledResume spooled);
+
+    void discard(Path spooled);
+
+    void processDueTasks();
+}
@@ -1,7 +1,7 @@
 package com.prashant.jobtracker.service;
 
 import com.prashant.jobtracker.dto.UserDTO;
-import com.prashant.jobtracker.entity.User;
+import com.prashant.jobtracker.security.UserPrincipal;
 
 public interface UserService {
 
@@ -9,5 +9,5 @@ public interface UserService {
 
     UserDTO getUserDetails();
 
-    User getLoggedInUser();
+    UserPrincipal getLoggedInUser();
 }
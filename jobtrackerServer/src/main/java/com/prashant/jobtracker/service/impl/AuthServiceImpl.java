@@ -1,8 +1,16 @@
 package com.prashant.jobtracker.service.impl;
 
 import com.prashant.jobtracker.dto.LoginRequestDTO;
+import com.prashant.jobtracker.dto.RefreshTokenRequestDTO;
 import com.prashant.jobtracker.dto.Response;
+import com.prashant.jobtracker.dto.TokenResponse;
 import com.prashant.jobtracker.dto.UserDTO;
+import com.prashant.jobtracker.entity.User;
+import com.prashant.jobtracker.exception.InvalidRequestException;
+import com.prashant.jobtracker.security.LoginRateLimiter;
+import com.prashant.jobtracker.security.TokenAuthenticationFilter;
+import com.prashant.jobtracker.security.TokenService;
+import com.prashant.jobtracker.security.UserPrincipal;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -14,25 +22,46 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 public class AuthServiceImpl {
 
     private final AuthenticationManager authenticationManager;
     private final UserServiceImpl userServiceImpl;
+    private final LoginRateLimiter loginRateLimiter;
+    // present only when auth.mode=token
+    private final Optional<TokenService> tokenService;
 
-    public AuthServiceImpl(AuthenticationManager authenticationManager, UserServiceImpl userServiceImpl) {
+    public AuthServiceImpl(AuthenticationManager authenticationManager, UserServiceImpl userServiceImpl,
+                           LoginRateLimiter loginRateLimiter, Optional<TokenService> tokenService) {
         this.authenticationManager = authenticationManager;
         this.userServiceImpl = userServiceImpl;
+        this.loginRateLimiter = loginRateLimiter;
+        this.tokenService = tokenService;
     }
 
     public Response login(LoginRequestDTO loginRequest, HttpServletRequest request) {
+        // throttled before the password is hashed; the address is the client's, resolved from X-Forwarded-For
+        // when the request came through a trusted proxy (server.forward-headers-strategy)
+        loginRateLimiter.acquireLogin(loginRequest.getEmail(), request.getRemoteAddr());
+
         UsernamePasswordAuthenticationToken authToken =
                 new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword());
 
         Authentication authentication = authenticationManager.authenticate(authToken);
 
-        SecurityContext securityContext = SecurityContextHolder.getContext();
-        securityContext.setAuthentication(authentication);
+        User user = (User) authentication.getPrincipal();
+        if (tokenService.isPresent())
+            return tokenService.get().issue(UserPrincipal.from(user));
+
+        // the session keeps only the slim principal, not the entity and its password hash
+        Authentication sessionAuthentication = UsernamePasswordAuthenticationToken.authenticated(
+                UserPrincipal.from(user), null, authentication.getAuthorities());
+
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        securityContext.setAuthentication(sessionAuthentication);
+        SecurityContextHolder.setContext(securityContext);
 
         HttpSession session = request.getSession(true);
         session.setAttribute("SPRING_SECURITY_CONTEXT", securityContext);
@@ -40,11 +69,25 @@ public class AuthServiceImpl {
         return new Response("Login successful");
     }
 
-    public UserDTO signUp( UserDTO userData) {
+    public UserDTO signUp(UserDTO userData, HttpServletRequest request) {
+        loginRateLimiter.acquireForAddress(request.getRemoteAddr());
         return userServiceImpl.signUp(userData);
     }
 
-    public void logout(HttpServletRequest request, HttpServletResponse response) {
+    public TokenResponse refresh(RefreshTokenRequestDTO refreshRequest) {
+        return tokenService
+                .orElseThrow(() -> new InvalidRequestException("Token refresh is not available in session mode"))
+                .refresh(refreshRequest.getRefreshToken());
+    }
+
+    public void logout(HttpServletRequest request, HttpServletResponse response, RefreshTokenRequestDTO refreshRequest) {
+        if (tokenService.isPresent()) {
+            tokenService.get().revoke(TokenAuthenticationFilter.bearerToken(request));
+            if (refreshRequest != null)
+                tokenService.get().revoke(refreshRequest.getRefreshToken());
+            SecurityContextHolder.clearContext();
+            return;
+        }
 
         HttpSession session = request.getSession(false);
         if (session != null) {
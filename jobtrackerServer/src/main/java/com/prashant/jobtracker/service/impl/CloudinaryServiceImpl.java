@@ -5,53 +5,94 @@ import com.cloudinary.utils.ObjectUtils;
 import com.prashant.jobtracker.service.CloudinaryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
+
+/**
+ * Uploads are always handed to the SDK as a {@link java.io.File}, which it streams into the
+ * request body in small chunks; nothing here reads a whole upload into a byte array.
+ */
 @Service
+@ConditionalOnProperty(name = "storage.backend", havingValue = "cloudinary", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class CloudinaryServiceImpl implements CloudinaryService {
 
     private final Cloudinary cloudinary;
+    private final InFlightBytesLimiter inFlightBytesLimiter;
 
     @Override
     public String uploadImage(MultipartFile file) {
-        try {
-            Map params = ObjectUtils.asMap(
-                    "folder", "UserService/images"
-            );
-
-            Map uploadResult = cloudinary.uploader()
-                    .upload(file.getBytes(), params);
+        Map params = ObjectUtils.asMap(
+                "folder", "UserService/images"
+        );
+        return uploadMultipart(file, params, "Image upload failed");
+    }
 
-            return uploadResult.get("secure_url").toString();
+    // Upload PDF
+    @Override
+    public String uploadPdf(MultipartFile file) {
+        Map params = ObjectUtils.asMap(
+                "folder", "UserService/pdfs",
+                "resource_type", "raw"
+        );
+        return uploadMultipart(file, params, "PDF upload failed");
+    }
 
+    // Upload a PDF that is already on local disk
+    @Override
+    public String uploadPdf(Path file) {
+        Map params = ObjectUtils.asMap(
+                "folder", "UserService/pdfs",
+                "resource_type", "raw"
+        );
+        try {
+            return upload(file, Files.size(file), params);
         } catch (IOException e) {
-            log.error("Error while uploading image", e);
-            throw new RuntimeException("Image upload failed");
+            log.error("Error while uploading PDF {}", file, e);
+            throw new RuntimeException("PDF upload failed");
         }
     }
 
-    // Upload PDF
-    @Override
-    public String uploadPdf(MultipartFile file) {
+    private String uploadMultipart(MultipartFile file, Map params, String failureMessage) {
+        Path temp = null;
         try {
-            Map params = ObjectUtils.asMap(
-                    "folder", "UserService/pdfs",
-                    "resource_type", "raw"
-            );
+            // moves the container's spooled part when it is on disk, otherwise copies with a small buffer
+            temp = Files.createTempFile("upload-", ".tmp");
+            file.transferTo(temp);
+            return upload(temp, file.getSize(), params);
+        } catch (IOException e) {
+            log.error("Error while uploading {}", file.getOriginalFilename(), e);
+            throw new RuntimeException(failureMessage);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
 
+    private String upload(Path file, long size, Map params) throws IOException {
+        int acquired = inFlightBytesLimiter.acquire(size);
+        try {
             Map uploadResult = cloudinary.uploader()
-                    .upload(file.getBytes(), params);
-
+                    .upload(file.toFile(), params);
             return uploadResult.get("secure_url").toString();
+        } finally {
+            inFlightBytesLimiter.release(acquired);
+        }
+    }
 
+    private void deleteQuietly(Path file) {
+        if (file == null)
+            return;
+        try {
+            Files.deleteIfExists(file);
         } catch (IOException e) {
-            log.error("Error while uploading PDF", e);
-            throw new RuntimeException("PDF upload failed");
+            log.warn("Could not delete temporary upload {}", file, e);
         }
     }
 }
@@ -0,0 +1,112 @@
+package com.prashant.jobtracker.service.impl;
+
+import com.prashant.jobtracker.dto.CompanySuggestionDTO;
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.repository.JobRepository;
+import com.prashant.jobtracker.service.CompanySuggestionService;
+import com.prashant.jobtracker.service.JobCollectionVersionService;
+import com.prashant.jobtracker.service.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Company name typeahead. A user's trie is built from their jobs on the first suggestion after
+ * startup and then follows the job write paths; the least recently used tries are dropped.
+ * Like the search index, a trie behind the stored collection version is rebuilt.
+ */
+@Service
+@Slf4j
+public class CompanySuggestionServiceImpl implements CompanySuggestionService {
+
+    private final JobRepository jobRepository;
+    private final UserService userService;
+    private final JobCollectionVersionService jobCollectionVersionService;
+    private final TransactionTemplate transactionTemplate;
+    private final int topK;
+    private final Map<Long, CompanyTrie> tries;
+
+    public CompanySuggestionServiceImpl(JobRepository jobRepository,
+                                        UserService userService,
+                                        JobCollectionVersionService jobCollectionVersionService,
+                                        TransactionTemplate transactionTemplate,
+                                        @Value("${companies.suggest.top-k}") int topK,
+                                        @Value("${companies.suggest.max-cached-users}") int maxCachedUsers) {
+        this.jobRepository = jobRepository;
+        this.userService = userService;
+        this.jobCollectionVersionService = jobCollectionVersionService;
+        this.transactionTemplate = transactionTemplate;
+        this.topK = topK;
+        this.tries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CompanyTrie> eldest) {
+                return size() > maxCachedUsers;
+            }
+        });
+    }
+
+    @Override
+    public List<CompanySuggestionDTO> suggest(String prefix, int limit) {
+        Long userId = userService.getLoggedInUser().getId();
+        return trieFor(userId).suggest(prefix, Math.min(Math.max(limit, 1), topK));
+    }
+
+    @Override
+    public void recordSaved(JobApplication job, long version) {
+        Long userId = job.getUser().getId();
+        Long jobId = job.getId();
+        String companyName = job.getCompanyName();
+        TransactionHooks.afterCommit(() -> {
+            CompanyTrie trie = tries.get(userId);
+            if (trie != null)
+                trie.put(jobId, companyName, version);
+        });
+    }
+
+    @Override
+    public void recordRemoved(JobApplication job, long version) {
+        Long userId = job.getUser().getId();
+        Long jobId = job.getId();
+        TransactionHooks.afterCommit(() -> {
+            CompanyTrie trie = tries.get(userId);
+            if (trie != null)
+                trie.remove(jobId, version);
+        });
+    }
+
+    @Override
+    public void recordUnchanged(Long userId, long version) {
+        TransactionHooks.afterCommit(() -> {
+            CompanyTrie trie = tries.get(userId);
+            if (trie != null)
+                trie.skip(version);
+        });
+    }
+
+    @Override
+    public void recordBulkChange(Long userId) {
+        TransactionHooks.afterCommit(() -> tries.remove(userId));
+    }
+
+    // registered before the scan, so writes committed during the scan reach it
+    private CompanyTrie trieFor(Long userId) {
+        long current = jobCollectionVersionService.currentVersion(userId);
+        CompanyTrie trie = tries.compute(userId,
+                (id, existing) -> existing == null || existing.isStale(current) ? new CompanyTrie(topK) : existing);
+        trie.ensureLoaded(current, empty -> transactionTemplate.executeWithoutResult(status -> {
+            long started = System.nanoTime();
+            try (Stream<Object[]> rows = jobRepository.streamCompanyNamesByUserId(userId)) {
+                rows.forEach(row -> empty.load((Long) row[0], (String) row[1]));
+            }
+            log.info("Built company suggestions for user {} in {} ms", userId, (System.nanoTime() - started) / 1_000_000);
+        }));
+        return trie;
+    }
+}
@@ -0,0 +1,244 @@
+package com.prashant.jobtracker.service.impl;
+
+import com.prashant.jobtracker.dto.CompanySuggestionDTO;
+import com.prashant.jobtracker.entity.JobApplication;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * One user's company names in a trie keyed by the normalized name. Every node caches the
+ * top-k names below it by usage, so a suggestion is a walk down the prefix plus a copy of
+ * that list; a write recomputes the caches along the single path it touches.
+ * The spelling is remembered per job, which makes writes idempotent and lets the initial
+ * scan skip jobs written while it runs, as in {@link UserTextIndex}, whose collection version
+ * tagging it shares.
+ */
+final class CompanyTrie {
+
+    private static final Comparator<Company> BY_USES = Comparator.comparingLong((Company company) -> company.uses).reversed()
+            .thenComparing(company -> company.displayName);
+
+    private final int k;
+    private final Node root = new Node('\0');
+    private final Map<Long, String> spellingByJob = new HashMap<>();
+    private Set<Long> changedWhileLoading = new HashSet<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // held for the whole initial scan, a JDBC read; a monitor there would pin a waiting virtual thread to its carrier
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile boolean loaded;
+    private long version = -1;
+
+    CompanyTrie(int k) {
+        this.k = k;
+    }
+
+    void ensureLoaded(long version, Consumer<CompanyTrie> loader) {
+        if (loaded)
+            return;
+        loadLock.lock();
+        try {
+            if (loaded)
+                return;
+            lock.writeLock().lock();
+            try {
+                this.version = version;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            loader.accept(this);
+            lock.writeLock().lock();
+            try {
+                changedWhileLoading = null;
+                loaded = true;
+                computeTops(root);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    // a row from the initial scan
+    void load(Long jobId, String companyName) {
+        lock.writeLock().lock();
+        try {
+            if (changedWhileLoading == null || !changedWhileLoading.contains(jobId))
+                assign(jobId, companyName);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void put(Long jobId, String companyName, long writeVersion) {
+        lock.writeLock().lock();
+        try {
+            if (!advance(writeVersion))
+                return;
+            if (changedWhileLoading != null)
+                changedWhileLoading.add(jobId);
+            assign(jobId, companyName);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long jobId, long writeVersion) {
+        lock.writeLock().lock();
+        try {
+            if (!advance(writeVersion))
+                return;
+            if (changedWhileLoading != null)
+                changedWhileLoading.add(jobId);
+            assign(jobId, null);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void skip(long writeVersion) {
+        lock.writeLock().lock();
+        try {
+            advance(writeVersion);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    boolean isStale(long storedVersion) {
+        lock.readLock().lock();
+        try {
+            return loaded && version < storedVersion;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<CompanySuggestionDTO> suggest(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (char c : normalize(prefix).toCharArray()) {
+                node = node.children.get(c);
+                if (node == null)
+                    return List.of();
+            }
+            return node.top.stream()
+                    .limit(limit)
+                    .map(company -> new CompanySuggestionDTO(company.displayName, company.uses))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String companyName) {
+        return companyName == null ? "" : JobApplication.normalizeCompany(companyName);
+    }
+
+    private static String spelling(String companyName) {
+        return companyName.trim().replaceAll("\\s+", " ");
+    }
+
+    private boolean advance(long writeVersion) {
+        if (version >= 0 && writeVersion <= version)
+            return false;
+        if (writeVersion == version + 1)
+            version = writeVersion;
+        return true;
+    }
+
+    private void assign(Long jobId, String companyName) {
+        String spelling = companyName == null || companyName.isBlank() ? null : spelling(companyName);
+        String previous = spelling == null ? spellingByJob.remove(jobId) : spellingByJob.put(jobId, spelling);
+        if (Objects.equals(previous, spelling))
+            return;
+        if (previous != null)
+            use(previous, -1);
+        if (spelling != null)
+            use(spelling, 1);
+    }
+
+    // until the initial scan is done only the counts change; computeTops then fills every cache in one pass
+    private void use(String spelling, int delta) {
+        String key = normalize(spelling);
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        path.push(node);
+        for (char c : key.toCharArray()) {
+            node = node.children.computeIfAbsent(c, Node::new);
+            path.push(node);
+        }
+
+        Company company = node.company != null ? node.company : new Company();
+        company.use(spelling, delta);
+        node.company = company.uses > 0 ? company : null;
+        if (!loaded)
+            return;
+
+        // bottom-up, so every node merges its children's already updated lists; emptied nodes are dropped
+        Node child = null;
+        while (!path.isEmpty()) {
+            Node current = path.pop();
+            if (child != null && child.company == null && child.children.isEmpty())
+                current.children.remove(child.edge);
+            current.top = topOf(current);
+            child = current;
+        }
+    }
+
+    private void computeTops(Node node) {
+        node.children.values().removeIf(child -> {
+            computeTops(child);
+            return child.company == null && child.children.isEmpty();
+        });
+        node.top = topOf(node);
+    }
+
+    private List<Company> topOf(Node node) {
+        List<Company> candidates = new ArrayList<>();
+        if (node.company != null)
+            candidates.add(node.company);
+        for (Node child : node.children.values())
+            candidates.addAll(child.top);
+        candidates.sort(BY_USES);
+        return List.copyOf(candidates.subList(0, Math.min(k, candidates.size())));
+    }
+
+    private static final class Node {
+        private final char edge;
+        private final Map<Character, Node> children = new HashMap<>();
+        private Company company;
+        private List<Company> top = List.of();
+
+        Node(char edge) {
+            this.edge = edge;
+        }
+    }
+
+    private static final class Company {
+        // uses per spelling; the most used one is shown
+        private final Map<String, Integer> spellings = new HashMap<>();
+        private String displayName;
+        private long uses;
+
+        void use(String spelling, int delta) {
+            uses += delta;
+            spellings.merge(spelling, delta, Integer::sum);
+            spellings.remove(spelling, 0);
+
+            displayName = null;
+            int bestUses = 0;
+            for (Map.Entry<String, Integer> entry : spellings.entrySet()) {
+                if (entry.getValue() > bestUses || (entry.getValue() == bestUses && entry.getKey().compareTo(displayName) < 0)) {
+                    displayName = entry.getKey();
+                    bestUses = entry.getValue();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.prashant.jobtracker.service.impl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 reader: comma separated, double-quoted fields may contain commas, line breaks
+ * and doubled quotes. Reads one record at a time so arbitrarily large bodies stream through;
+ * no field is held beyond maxFieldLength characters.
+ */
+final class CsvReader {
+
+    private final Reader in;
+    private final int maxFieldLength;
+    private int pending = -2;
+
+    CsvReader(Reader in, int maxFieldLength) {
+        this.in = in;
+        this.maxFieldLength = maxFieldLength;
+    }
+
+    // null at end of input. A malformed record is read to its end before it is reported, so the next call
+    // starts on the following record; an unterminated quote runs to the end of input
+    List<String> next() throws IOException {
+        int c = read();
+        if (c == -1)
+            return null;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean tooLong = false;
+        while (true) {
+            if (field.length() > maxFieldLength) {
+                tooLong = true;
+                field.setLength(maxFieldLength);
+            }
+            if (quoted) {
+                if (c == -1)
+                    throw new MalformedRecordException("Unterminated quoted field");
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n')
+                        pending = following;
+                }
+                if (tooLong)
+                    throw new MalformedRecordException("A field is longer than " + maxFieldLength + " characters");
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        return in.read();
+    }
+
+    static final class MalformedRecordException extends IOException {
+        MalformedRecordException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.prashant.jobtracker.service.impl;
+
+import com.prashant.jobtracker.exception.UploadCapacityExceededException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of upload bytes being moved at the same time. A single file larger than
+ * the whole budget is still let through on its own, it just takes all of it.
+ */
+@Component
+public class InFlightBytesLimiter {
+
+    private static final int KB = 1024;
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long acquireTimeoutMs;
+
+    public InFlightBytesLimiter(
+            @Value("${storage.upload.max-in-flight-bytes}") long maxInFlightBytes,
+            @Value("${storage.upload.acquire-timeout-ms}") long acquireTimeoutMs) {
+        // permits are counted in KB so budgets beyond 2 GB still fit in an int
+        this.maxPermits = (int) Math.max(1, Math.min(Integer.MAX_VALUE, maxInFlightBytes / KB));
+        this.permits = new Semaphore(maxPermits, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    public int acquire(long bytes) {
+        int needed = (int) Math.max(1, Math.min(maxPermits, (bytes + KB - 1) / KB));
+        try {
+            if (!permits.tryAcquire(needed, acquireTimeoutMs, TimeUnit.MILLISECONDS))
+                throw new UploadCapacityExceededException("Too many uploads in progress, please retry shortly");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UploadCapacityExceededException("Upload interrupted while waiting for capacity");
+        }
+        return needed;
+    }
+
+    public void release(int acquired) {
+        permits.release(acquired);
+    }
+}
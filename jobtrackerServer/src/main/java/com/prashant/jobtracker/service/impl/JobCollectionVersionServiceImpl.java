@@ -0,0 +1,45 @@
+package com.prashant.jobtracker.service.impl;
+
+import com.prashant.jobtracker.entity.JobCollectionVersion;
+import com.prashant.jobtracker.repository.JobCollectionVersionRepository;
+import com.prashant.jobtracker.service.JobCollectionVersionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Instant;
+
+@Service
+@RequiredArgsConstructor
+public class JobCollectionVersionServiceImpl implements JobCollectionVersionService {
+
+    private final JobCollectionVersionRepository versionRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long bump(Long userId) {
+        versionRepository.bump(userId, Instant.now());
+        return versionRepository.findVersion(userId).orElseThrow();
+    }
+
+    @Override
+    public JobCollectionVersion current(Long userId) {
+        return versionRepository.findById(userId).orElseGet(() -> {
+            JobCollectionVersion initial = new JobCollectionVersion();
+            initial.setUserId(userId);
+            return initial;
+        });
+    }
+
+    @Override
+    public long currentVersion(Long userId) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null && request.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof JobCollectionVersion read
+                && userId.equals(read.getUserId()))
+            return read.getVersion();
+        return versionRepository.findVersion(userId).orElse(0L);
+    }
+}
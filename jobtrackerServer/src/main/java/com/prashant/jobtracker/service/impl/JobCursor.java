@@ -0,0 +1,39 @@
+package com.prashant.jobtracker.service.impl;
+
+import com.prashant.jobtracker.exception.InvalidRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a keyset slice: the (appliedDate, id) pair the next slice
+ * seeks past, plus the total counted on the first slice so it is never recomputed.
+ * Encoded as url-safe base64 so clients treat it as opaque.
+ */
+@Getter
+@AllArgsConstructor
+class JobCursor {
+
+    private final LocalDate appliedDate;
+    private final Long id;
+    private final Long total;
+
+    String encode() {
+        String raw = appliedDate + "|" + id + "|" + (total == null ? "" : total);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static JobCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            Long total = parts[2].isEmpty() ? null : Long.valueOf(parts[2]);
+            return new JobCursor(LocalDate.parse(parts[0]), Long.valueOf(parts[1]), total);
+        } catch (RuntimeException ex) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
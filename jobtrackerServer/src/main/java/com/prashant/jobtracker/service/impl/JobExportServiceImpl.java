@@ -0,0 +1,164 @@
+package com.prashant.jobtracker.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.prashant.jobtracker.dto.JobApplicationDTO;
+import com.prashant.jobtracker.entity.enums.JobStatus;
+import com.prashant.jobtracker.entity.enums.ResumeStatus;
+import com.prashant.jobtracker.exception.InvalidRequestException;
+import com.prashant.jobtracker.service.JobExportService;
+import com.prashant.jobtracker.service.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Writes all of the logged-in user's applications as CSV or NDJSON while the rows are read.
+ * The query runs through a forward-only cursor with a fixed fetch size (useCursorFetch on MySQL),
+ * so only one fetch worth of rows is held at a time, whatever the number of rows.
+ */
+@Service
+@Slf4j
+public class JobExportServiceImpl implements JobExportService {
+
+    private static final String SELECT_SQL = "select id, company_name, job_id, job_role, status, applied_date, "
+            + "comment, resume_used, resume_status, resume_id from job_applications "
+            + "where user_id = ? order by applied_date desc, id desc";
+    // same column names as the import reads, so an export can be imported again
+    private static final String CSV_HEADER = "id,companyName,jobId,jobRole,status,appliedDate,comment,resumeUsed";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserService userService;
+    private final ObjectWriter dtoWriter;
+    private final int fetchSize;
+
+    public JobExportServiceImpl(JdbcTemplate jdbcTemplate,
+                                UserService userService,
+                                ObjectMapper objectMapper,
+                                @Value("${jobs.export.fetch-size}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userService = userService;
+        // one write per fetch buffer instead of a flush per row
+        this.dtoWriter = objectMapper.writerFor(JobApplicationDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void exportJobs(MediaType format, OutputStream out) throws IOException {
+        Long userId = userService.getLoggedInUser().getId();
+        long rows;
+        try {
+            if (JobImportServiceImpl.TEXT_CSV.includes(format))
+                rows = writeCsv(userId, out);
+            else if (JobImportServiceImpl.APPLICATION_NDJSON.includes(format))
+                rows = writeNdjson(userId, out);
+            else
+                throw new InvalidRequestException("Unsupported export format: " + format);
+        } catch (UncheckedIOException e) {
+            // usually the client went away mid-download
+            throw e.getCause();
+        }
+        log.info("Exported {} jobs for user {} as {}", rows, userId, format);
+    }
+
+    private long writeCsv(Long userId, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        long rows = stream(userId, rs -> {
+            JobApplicationDTO job = toDto(rs);
+            try {
+                writer.write(String.valueOf(job.getId()));
+                writeCsvField(writer, job.getCompanyName());
+                writeCsvField(writer, job.getJobId());
+                writeCsvField(writer, job.getJobRole());
+                writeCsvField(writer, job.getStatus().name());
+                writeCsvField(writer, job.getAppliedDate().toString());
+                writeCsvField(writer, job.getComment());
+                writeCsvField(writer, job.getResumeUsed());
+                writer.write("\r\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+        return rows;
+    }
+
+    private long writeNdjson(Long userId, OutputStream out) throws IOException {
+        JsonGenerator generator = dtoWriter.createGenerator(out);
+        // one document per line, not the default space-separated root values
+        generator.setRootValueSeparator(null);
+        long rows = stream(userId, rs -> {
+            try {
+                dtoWriter.writeValue(generator, toDto(rs));
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.flush();
+        return rows;
+    }
+
+    private long stream(Long userId, RowCallbackHandler handler) {
+        long[] rows = {0};
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(SELECT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setLong(1, userId);
+            return statement;
+        }, rs -> {
+            handler.processRow(rs);
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    private static JobApplicationDTO toDto(ResultSet rs) throws SQLException {
+        JobApplicationDTO job = new JobApplicationDTO();
+        job.setId(rs.getLong("id"));
+        job.setCompanyName(rs.getString("company_name"));
+        job.setJobId(rs.getString("job_id"));
+        job.setJobRole(rs.getString("job_role"));
+        job.setStatus(JobStatus.valueOf(rs.getString("status")));
+        job.setAppliedDate(rs.getDate("applied_date").toLocalDate());
+        job.setComment(rs.getString("comment"));
+        job.setResumeUsed(rs.getString("resume_used"));
+        String resumeStatus = rs.getString("resume_status");
+        job.setResumeStatus(resumeStatus == null ? null : ResumeStatus.valueOf(resumeStatus));
+        long resumeId = rs.getLong("resume_id");
+        job.setResumeId(rs.wasNull() ? null : resumeId);
+        return job;
+    }
+
+    // leading comma, quoted only when the value needs it; null stays an empty cell
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        writer.write(',');
+        if (value == null)
+            return;
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
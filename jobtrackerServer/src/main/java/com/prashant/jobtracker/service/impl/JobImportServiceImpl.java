@@ -0,0 +1,290 @@
+package com.prashant.jobtracker.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.prashant.jobtracker.dto.ImportResult;
+import com.prashant.jobtracker.dto.JobApplicationDTO;
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.entity.enums.JobStatus;
+import com.prashant.jobtracker.exception.InvalidRequestException;
+import com.prashant.jobtracker.service.CompanySuggestionService;
+import com.prashant.jobtracker.service.JobCollectionVersionService;
+import com.prashant.jobtracker.service.JobImportService;
+import com.prashant.jobtracker.service.JobStatsService;
+import com.prashant.jobtracker.service.JobTextSearchService;
+import com.prashant.jobtracker.service.UserService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Streams CSV or NDJSON from the request body, validates each row like a single POST /jobs and
+ * writes valid rows with JDBC batch inserts, one transaction per batch. Job ids stay
+ * database-assigned (IDENTITY): the batches bypass Hibernate, which cannot batch IDENTITY inserts,
+ * and with rewriteBatchedStatements the MySQL driver sends each batch as one multi-row insert.
+ */
+@Service
+@Slf4j
+public class JobImportServiceImpl implements JobImportService {
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private static final String INSERT_SQL = "insert into job_applications "
+            + "(company_name, company_norm, job_id, job_role, applied_date, user_id, comment, status) values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final Set<String> REQUIRED_COLUMNS = Set.of("companyname", "jobrole", "status", "applieddate");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final JobStatsService jobStatsService;
+    private final JobTextSearchService jobTextSearchService;
+    private final CompanySuggestionService companySuggestionService;
+    private final JobCollectionVersionService jobCollectionVersionService;
+    private final UserService userService;
+    private final ObjectReader dtoReader;
+    private final int batchSize;
+    private final int maxReportedErrors;
+    private final long maxRows;
+    private final int maxFieldLength;
+
+    public JobImportServiceImpl(JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                Validator validator,
+                                JobStatsService jobStatsService,
+                                JobTextSearchService jobTextSearchService,
+                                CompanySuggestionService companySuggestionService,
+                                JobCollectionVersionService jobCollectionVersionService,
+                                UserService userService,
+                                ObjectMapper objectMapper,
+                                @Value("${jobs.import.batch-size}") int batchSize,
+                                @Value("${jobs.import.max-reported-errors}") int maxReportedErrors,
+                                @Value("${jobs.import.max-rows}") long maxRows,
+                                @Value("${jobs.import.max-field-length}") int maxFieldLength) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.jobStatsService = jobStatsService;
+        this.jobTextSearchService = jobTextSearchService;
+        this.companySuggestionService = companySuggestionService;
+        this.jobCollectionVersionService = jobCollectionVersionService;
+        this.userService = userService;
+        this.dtoReader = objectMapper.readerFor(JobApplicationDTO.class);
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+        this.maxRows = maxRows;
+        this.maxFieldLength = maxFieldLength;
+    }
+
+    @Override
+    public ImportResult importJobs(InputStream body, MediaType contentType) {
+        Long userId = userService.getLoggedInUser().getId();
+        Import anImport = new Import(userId);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            if (TEXT_CSV.includes(contentType))
+                readCsv(reader, anImport);
+            else if (APPLICATION_NDJSON.includes(contentType))
+                readNdjson(reader, anImport);
+            else
+                throw new InvalidRequestException("Unsupported import format: " + contentType);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        anImport.flush();
+
+        log.info("Imported {} jobs for user {}, {} rows rejected", anImport.imported, userId, anImport.rejected);
+        return ImportResult.builder()
+                .imported(anImport.imported)
+                .rejected(anImport.rejected)
+                .errors(anImport.errors)
+                .build();
+    }
+
+    private void readCsv(BufferedReader reader, Import anImport) throws IOException {
+        CsvReader csv = new CsvReader(reader, maxFieldLength);
+        List<String> header;
+        try {
+            header = csv.next();
+        } catch (CsvReader.MalformedRecordException e) {
+            throw new InvalidRequestException("Malformed CSV header: " + e.getMessage());
+        }
+        if (header == null)
+            return;
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++)
+            columns.put(normalizeColumn(header.get(i)), i);
+        if (!columns.keySet().containsAll(REQUIRED_COLUMNS))
+            throw new InvalidRequestException("CSV header must contain companyName, jobRole, status and appliedDate");
+
+        long row = 1;
+        while (true) {
+            List<String> record;
+            String malformed = null;
+            try {
+                record = csv.next();
+            } catch (CsvReader.MalformedRecordException e) {
+                record = List.of();
+                malformed = e.getMessage();
+            }
+            if (record == null || !anImport.accepting(++row))
+                break;
+            if (malformed != null) {
+                anImport.reject(row, malformed);
+                continue;
+            }
+            if (record.size() == 1 && record.get(0).isBlank())
+                continue;
+            try {
+                anImport.add(row, fromCsv(record, columns));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                anImport.reject(row, e.getMessage());
+            }
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, Import anImport) throws IOException {
+        long row = 0;
+        String line;
+        while ((line = reader.readLine()) != null && anImport.accepting(++row)) {
+            if (line.isBlank())
+                continue;
+            try {
+                anImport.add(row, dtoReader.readValue(line));
+            } catch (JsonProcessingException e) {
+                anImport.reject(row, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private static JobApplicationDTO fromCsv(List<String> record, Map<String, Integer> columns) {
+        JobApplicationDTO dto = new JobApplicationDTO();
+        dto.setCompanyName(column(record, columns, "companyname"));
+        dto.setJobRole(column(record, columns, "jobrole"));
+        dto.setJobId(column(record, columns, "jobid"));
+        dto.setComment(column(record, columns, "comment"));
+
+        String status = column(record, columns, "status");
+        if (status != null) {
+            try {
+                dto.setStatus(JobStatus.valueOf(status.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown status: " + status);
+            }
+        }
+        String appliedDate = column(record, columns, "applieddate");
+        if (appliedDate != null) {
+            try {
+                dto.setAppliedDate(LocalDate.parse(appliedDate.trim()));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Applied date must be yyyy-MM-dd: " + appliedDate);
+            }
+        }
+        return dto;
+    }
+
+    // blank cells read as missing values
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size())
+            return null;
+        String value = record.get(index);
+        return value.isBlank() ? null : value;
+    }
+
+    // "Company Name", "company_name" and "companyName" all address the same column
+    private static String normalizeColumn(String header) {
+        return header.replace("\uFEFF", "").replaceAll("[\\s_-]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private final class Import {
+        private final Long userId;
+        private final List<JobApplication> batch = new ArrayList<>(batchSize);
+        private final List<ImportResult.RowError> errors = new ArrayList<>();
+        private long imported;
+        private long rejected;
+
+        Import(Long userId) {
+            this.userId = userId;
+        }
+
+        boolean accepting(long row) {
+            if (imported + rejected + batch.size() < maxRows)
+                return true;
+            reject(row, "Import is limited to " + maxRows + " rows, the rest of the file was skipped");
+            return false;
+        }
+
+        void add(long row, JobApplicationDTO dto) {
+            Set<ConstraintViolation<JobApplicationDTO>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                reject(row, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+                return;
+            }
+
+            JobApplication job = new JobApplication();
+            job.setCompanyName(dto.getCompanyName());
+            job.setJobId(dto.getJobId());
+            job.setJobRole(dto.getJobRole());
+            job.setAppliedDate(dto.getAppliedDate());
+            job.setComment(dto.getComment());
+            job.setStatus(dto.getStatus());
+            batch.add(job);
+            if (batch.size() >= batchSize)
+                flush();
+        }
+
+        void reject(long row, String message) {
+            rejected++;
+            if (errors.size() < maxReportedErrors)
+                errors.add(new ImportResult.RowError(row, message));
+        }
+
+        // rows and their counter updates commit together, so the stats never count a row that isn't there
+        void flush() {
+            if (batch.isEmpty())
+                return;
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, job) -> {
+                    ps.setString(1, job.getCompanyName());
+                    ps.setString(2, JobApplication.normalizeCompany(job.getCompanyName()));
+                    ps.setString(3, job.getJobId());
+                    ps.setString(4, job.getJobRole());
+                    ps.setDate(5, Date.valueOf(job.getAppliedDate()));
+                    ps.setLong(6, userId);
+                    ps.setString(7, job.getComment());
+                    ps.setString(8, job.getStatus().name());
+                });
+                jobStatsService.recordAdded(userId, batch);
+                // the batch insert returns no ids
+                jobTextSearchService.recordBulkChange(userId);
+                companySuggestionService.recordBulkChange(userId);
+                jobCollectionVersionService.bump(userId);
+            });
+            imported += batch.size();
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.prashant.jobtracker.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.prashant.jobtracker.service.JobCollectionVersionService;
+import com.prashant.jobtracker.service.JobReadCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Entries are keyed by the user's collection version as stored in job_collection_versions,
+ * read on every lookup, or by the ETag interceptor earlier in the same request. Every write bumps it in its own transaction, on whichever node it runs,
+ * so the first read after the commit misses and the old entries are never read again; they age
+ * out under the size bound. A result is stored under the version read before it was loaded, so
+ * it can be newer than its key but never older.
+ */
+@Service
+public class JobReadCacheImpl implements JobReadCache {
+
+    private static final String JOB = "job";
+
+    private final boolean enabled;
+    private final JobCollectionVersionService jobCollectionVersionService;
+    private final Cache<Key, Object> reads;
+
+    public JobReadCacheImpl(@Value("${jobs.read-cache.enabled}") boolean enabled,
+                            @Value("${jobs.read-cache.max-rows}") long maxRows,
+                            @Value("${jobs.read-cache.ttl}") Duration ttl,
+                            JobCollectionVersionService jobCollectionVersionService,
+                            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.jobCollectionVersionService = jobCollectionVersionService;
+        this.reads = Caffeine.newBuilder()
+                .maximumWeight(maxRows)
+                .weigher((Key key, Object value) -> value instanceof Collection<?> rows ? Math.max(rows.size(), 1) : 1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, reads, "jobReads");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Long userId, Object query, Supplier<T> loader) {
+        if (!enabled)
+            return loader.get();
+        Key key = new Key(userId, jobCollectionVersionService.currentVersion(userId), query);
+        Object cached = reads.getIfPresent(key);
+        if (cached != null)
+            return (T) cached;
+        // loaded outside the cache's lock: a slow listing must not block other keys
+        T loaded = loader.get();
+        if (loaded == null)
+            return null;
+        Object value = loaded instanceof List<?> rows ? List.copyOf(rows) : loaded;
+        reads.put(key, value);
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getJob(Long userId, Long jobId, Supplier<T> loader) {
+        if (!enabled)
+            return loader.get();
+        return (T) reads.get(new Key(userId, jobCollectionVersionService.currentVersion(userId), List.of(JOB, jobId)),
+                key -> loader.get());
+    }
+
+    private record Key(Long userId, long version, Object query) {
+    }
+}
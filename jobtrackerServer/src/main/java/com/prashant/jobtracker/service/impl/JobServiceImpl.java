@@ -1,30 +1,61 @@
 package com.prashant.jobtracker.service.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prashant.jobtracker.dto.BulkJobRequestDTO;
+import com.prashant.jobtracker.dto.BulkResult;
+import com.prashant.jobtracker.dto.CursorPage;
 import com.prashant.jobtracker.dto.JobApplicationDTO;
+import com.prashant.jobtracker.dto.JobSearchCriteria;
+import com.prashant.jobtracker.dto.PageResponse;
+import com.prashant.jobtracker.dto.SpooledResume;
 import com.prashant.jobtracker.dto.Response;
 import com.prashant.jobtracker.entity.JobApplication;
-import com.prashant.jobtracker.entity.User;
+import com.prashant.jobtracker.entity.Resume;
 import com.prashant.jobtracker.entity.enums.JobStatus;
+import com.prashant.jobtracker.exception.InvalidRequestException;
+import com.prashant.jobtracker.exception.PreconditionFailedException;
 import com.prashant.jobtracker.exception.ResourceNotFoundException;
 import com.prashant.jobtracker.exception.UnauthorizedAccessException;
+import com.prashant.jobtracker.mapper.JobApplicationMapper;
+import com.prashant.jobtracker.repository.EditableJobColumns;
 import com.prashant.jobtracker.repository.JobRepository;
-import com.prashant.jobtracker.service.CloudinaryService;
+import com.prashant.jobtracker.repository.JobSpecifications;
+import com.prashant.jobtracker.repository.ResumeRepository;
+import com.prashant.jobtracker.repository.UserRepository;
+import com.prashant.jobtracker.security.UserPrincipal;
+import com.prashant.jobtracker.service.CompanySuggestionService;
+import com.prashant.jobtracker.service.JobCollectionVersionService;
+import com.prashant.jobtracker.service.JobReadCache;
 import com.prashant.jobtracker.service.JobService;
+import com.prashant.jobtracker.service.JobStatsService;
+import com.prashant.jobtracker.service.JobTextSearchService;
+import com.prashant.jobtracker.service.ResumeUploadService;
 import com.prashant.jobtracker.service.UserService;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 
 @Service
 @Slf4j
@@ -32,113 +63,372 @@ import java.util.stream.Collectors;
 public class JobServiceImpl  implements JobService {
 
     private final static int PAGE_SIZE = 10;
+    private final static int MAX_PAGE_SIZE = 100;
+    private final static Set<String> SORTABLE_FIELDS = Set.of("appliedDate", "companyName", "jobRole", "status", "id");
+    // the fields updateJob copies as well
+    private final static List<String> PATCHABLE_FIELDS = List.of("companyName", "jobRole", "comment", "status");
 
     private final JobRepository jobRepository;
-    private final ModelMapper modelMapper;
+    private final JobApplicationMapper jobApplicationMapper;
     private final UserService userService;
-    private final CloudinaryService cloudinaryService;
+    private final ResumeUploadService resumeUploadService;
+    private final ResumeRepository resumeRepository;
+    private final UserRepository userRepository;
+    private final JobStatsService jobStatsService;
+    private final JobTextSearchService jobTextSearchService;
+    private final CompanySuggestionService companySuggestionService;
+    private final JobCollectionVersionService jobCollectionVersionService;
+    private final JobReadCache jobReadCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
 
-    @Transactional
     public Response addJob(JobApplicationDTO jobApplicationDTO, MultipartFile file) {
 
         JobApplication jobApplication = convertToEntity(jobApplicationDTO);
-        String resumeLink = cloudinaryService.uploadPdf(file);
-        jobApplication.setResumeUsed(resumeLink);
-        User user = userService.getLoggedInUser();
-        jobApplication.setUser(user);
-
-        JobApplication savedJob = jobRepository.save(jobApplication);
+        // server-assigned; a client-sent id would otherwise turn the insert into a merge
+        jobApplication.setId(null);
+        jobApplication.setResumeUsed(null);
+        UserPrincipal user = userService.getLoggedInUser();
+
+        // spool, hash and dedupe before opening the transaction; new files are uploaded later by the worker pool
+        SpooledResume spooled = file == null || file.isEmpty() ? null : resumeUploadService.spool(file);
+        Resume resume = spooled == null ? null : resumeUploadService.findOrStore(user.getId(), spooled);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // a reference is enough to set the foreign key; the user row is not loaded
+            jobApplication.setUser(userRepository.getReferenceById(user.getId()));
+            if (resume != null) {
+                // locked so an upload finishing right now either sees this job or is already visible here
+                Resume current = resumeRepository.findForLinking(resume.getId()).orElseThrow();
+                jobApplication.setResume(current);
+                jobApplication.setResumeUsed(current.getLink());
+                jobApplication.setResumeStatus(current.getStatus());
+            }
+            JobApplication saved = jobRepository.save(jobApplication);
+            jobStatsService.recordAdded(saved);
+            long version = jobCollectionVersionService.bump(user.getId());
+            jobTextSearchService.recordSaved(saved, version);
+            companySuggestionService.recordSaved(saved, version);
+        });
 
         return  Response.builder().message("Job Details Saved Successfully").build();
     }
 
+    // the single-query reads go through the caller's read cache; a hit costs the primary-key read of
+    // the collection version instead of the query and the mapping. A job of another user is not found
     public JobApplicationDTO getJobById(Long id) {
-        JobApplication jobApplication = jobRepository.findById(id).orElseThrow(()->
-                new ResourceNotFoundException("Invalid Job Id, no job found with given Id:"+id));
-        return convertToDTO(jobApplication);
+        Long userId = userService.getLoggedInUser().getId();
+        JobApplicationDTO job = jobReadCache.getJob(userId, id, () -> jobRepository.findDTOById(id, userId).orElse(null));
+        if (job == null)
+            throw new ResourceNotFoundException("Invalid Job Id, no job found with given Id:"+id);
+        return job;
     }
 
+    // a job of another user is not found, like in getJobById and patchJob
     @Transactional
     public Response deleteJob(Long id) {
-        JobApplication jobApplication = jobRepository.findById(id).orElseThrow(()->
+        Long userId = userService.getLoggedInUser().getId();
+        JobApplication jobApplication = jobRepository.findByIdAndUserId(id, userId).orElseThrow(()->
                 new ResourceNotFoundException("Invalid Job Id, no job found with given Id:"+id));
         jobRepository.delete(jobApplication);
+        jobStatsService.recordRemoved(jobApplication);
+        long version = jobCollectionVersionService.bump(userId);
+        jobTextSearchService.recordRemoved(jobApplication, version);
+        companySuggestionService.recordRemoved(jobApplication, version);
 
         return Response.builder().message("Job details delete successfully").build();
     }
 
     public List<JobApplicationDTO> getAllJobs(int page) {
-        User user = userService.getLoggedInUser();
+        UserPrincipal user = userService.getLoggedInUser();
         Long userId = user.getId();
 
         Pageable pageDetails = PageRequest.of(page, PAGE_SIZE);
 
-        Page<JobApplication> jobPage = jobRepository.findByUserId(userId, pageDetails);
-
-        return jobPage
-                .stream()
-                .map(this::convertToDTO)
-                .toList();
+        return jobReadCache.get(userId, List.of("jobs", page), () -> {
+            Slice<JobApplicationDTO> jobPage = jobRepository.findByUserId(userId, pageDetails);
+            return jobPage.getContent();
+        });
     }
 
-    public List<JobApplicationDTO> getJobsBetweenDates(LocalDate from, LocalDate to) {
-        List<JobApplication> jobApplications = jobRepository.findByAppliedDateBetween(from, to);
+    public List<JobApplicationDTO> getJobsBetweenDates(LocalDate from, LocalDate to, int page, int size) {
+        UserPrincipal user = userService.getLoggedInUser();
+        Pageable pageDetails = newestFirst(page, size);
 
-        return jobApplications.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return jobReadCache.get(user.getId(), List.of("between", from, to, pageDetails), () ->
+                jobRepository.findByUserIdAndAppliedDateBetween(user.getId(), from, to, pageDetails).getContent());
     }
 
     @Transactional
-    public JobApplicationDTO updateJob(Long id, JobApplicationDTO jobApplicationDTO) {
+    public JobApplicationDTO updateJob(Long id, JobApplicationDTO jobApplicationDTO, Set<Long> expectedVersions) {
 
         JobApplication existingJob = jobRepository.findById(id)
                 .orElseThrow(() ->
                         new ResourceNotFoundException("Job not found with id: " + id));
 
-        User currentUser = userService.getLoggedInUser();
+        UserPrincipal currentUser = userService.getLoggedInUser();
         if (!existingJob.getUser().getId().equals(currentUser.getId())) {
             throw new UnauthorizedAccessException("You are not authorized to update this job.");
         }
+        // a write racing past this check still fails on the version in the UPDATE's where clause
+        if (expectedVersions != null && !expectedVersions.contains(existingJob.getVersion()))
+            throw new PreconditionFailedException("Job " + id + " was changed since it was read (now at version "
+                    + existingJob.getVersion() + "), reload it and retry");
+
+        JobStatus previousStatus = existingJob.getStatus();
+        String previousCompany = existingJob.getCompanyName();
 
         // Manually update only allowed fields (SAFE)
         existingJob.setCompanyName(jobApplicationDTO.getCompanyName());
         existingJob.setJobRole(jobApplicationDTO.getJobRole());
         existingJob.setComment(jobApplicationDTO.getComment());
         existingJob.setStatus(jobApplicationDTO.getStatus());
-        JobApplication updatedJob = jobRepository.save(existingJob);
+        // flushed here so the returned version, and the ETag built from it, is the new one
+        JobApplication updatedJob = jobRepository.saveAndFlush(existingJob);
+        jobStatsService.recordChanged(updatedJob, previousStatus, previousCompany);
+        long version = jobCollectionVersionService.bump(currentUser.getId());
+        jobTextSearchService.recordSaved(updatedJob, version);
+        companySuggestionService.recordSaved(updatedJob, version);
+
+        return convertToDTO(updatedJob);
+    }
 
-        return modelMapper.map(updatedJob, JobApplicationDTO.class);
+    // reads the few columns the derived data needs, then one UPDATE of the changed ones; nothing is written if nothing changed
+    @Override
+    @Transactional
+    public long patchJob(Long id, JsonNode patch, Set<Long> expectedVersions) {
+        JobApplicationDTO values = readPatch(patch);
+        Long userId = userService.getLoggedInUser().getId();
+
+        EditableJobColumns current = jobRepository.findEditableColumns(id, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + id));
+        if (expectedVersions != null && !expectedVersions.contains(current.version()))
+            throw new PreconditionFailedException("Job " + id + " was changed since it was read (now at version "
+                    + current.version() + "), reload it and retry");
+
+        Map<String, Object> changes = new LinkedHashMap<>();
+        putIfChanged(changes, patch, "companyName", values.getCompanyName(), current.companyName());
+        putIfChanged(changes, patch, "jobRole", values.getJobRole(), current.jobRole());
+        putIfChanged(changes, patch, "comment", values.getComment(), current.comment());
+        putIfChanged(changes, patch, "status", values.getStatus(), current.status());
+        if (changes.isEmpty())
+            return current.version();
+
+        // the version in the where clause catches a write that committed after the read above
+        if (jobRepository.patch(id, userId, current.version(), changes) == 0)
+            throw new ObjectOptimisticLockingFailureException(JobApplication.class, id);
+
+        JobApplication updated = new JobApplication();
+        updated.setId(id);
+        updated.setUser(userRepository.getReferenceById(userId));
+        updated.setCompanyName(changes.containsKey("companyName") ? values.getCompanyName() : current.companyName());
+        updated.setJobRole(changes.containsKey("jobRole") ? values.getJobRole() : current.jobRole());
+        updated.setComment(changes.containsKey("comment") ? values.getComment() : current.comment());
+        updated.setStatus(changes.containsKey("status") ? values.getStatus() : current.status());
+        updated.setAppliedDate(current.appliedDate());
+
+        if (changes.containsKey("status") || changes.containsKey("companyName"))
+            jobStatsService.recordChanged(updated, current.status(), current.companyName());
+        long version = jobCollectionVersionService.bump(userId);
+        if (changes.containsKey("companyName") || changes.containsKey("jobRole") || changes.containsKey("comment"))
+            jobTextSearchService.recordSaved(updated, version);
+        else
+            jobTextSearchService.recordUnchanged(userId, version);
+        if (changes.containsKey("companyName"))
+            companySuggestionService.recordSaved(updated, version);
+        else
+            companySuggestionService.recordUnchanged(userId, version);
+
+        return current.version() + 1;
     }
 
+    // one UPDATE for all matching rows; rows already in the target status are left alone and not counted
     @Override
-    public List<JobApplicationDTO> getJobsByCompany(String company) {
-        List<JobApplication> jobApplications = jobRepository.findAllByCompanyName(company);
-        return jobApplications.stream()
-                .map(this::convertToDTO)
-                .toList();
+    @Transactional
+    public BulkResult updateStatuses(BulkJobRequestDTO request) {
+        if (request.getStatus() == null)
+            throw new InvalidRequestException("Job status is required");
+        Long userId = userService.getLoggedInUser().getId();
+        Specification<JobApplication> target = bulkTarget(userId, request).and(JobSpecifications.statusNot(request.getStatus()));
+
+        List<Object[]> groups = jobRepository.countStatsColumns(target);
+        int affected = jobRepository.updateStatus(target, request.getStatus());
+        jobStatsService.recordStatusChanged(userId, groups, request.getStatus(), affected);
+        if (affected > 0) {
+            long version = jobCollectionVersionService.bump(userId);
+            jobTextSearchService.recordUnchanged(userId, version);
+            companySuggestionService.recordUnchanged(userId, version);
+        }
+
+        log.info("Set status {} on {} jobs for user {}", request.getStatus(), affected, userId);
+        return BulkResult.builder().affected(affected).build();
+    }
+
+    @Override
+    @Transactional
+    public BulkResult deleteJobs(BulkJobRequestDTO request) {
+        Long userId = userService.getLoggedInUser().getId();
+        Specification<JobApplication> target = bulkTarget(userId, request);
+
+        List<Object[]> groups = jobRepository.countStatsColumns(target);
+        long affected = jobRepository.delete(target);
+        jobStatsService.recordRemoved(userId, groups, affected);
+        jobTextSearchService.recordBulkChange(userId);
+        companySuggestionService.recordBulkChange(userId);
+        if (affected > 0)
+            jobCollectionVersionService.bump(userId);
+
+        log.info("Deleted {} jobs for user {}", affected, userId);
+        return BulkResult.builder().affected(affected).build();
+    }
+
+    @Override
+    public List<JobApplicationDTO> getJobsByCompany(String company, int page, int size) {
+        UserPrincipal user = userService.getLoggedInUser();
+        String companyNorm = JobApplication.normalizeCompany(company);
+        Pageable pageDetails = newestFirst(page, size);
+
+        return jobReadCache.get(user.getId(), List.of("company", companyNorm, pageDetails), () ->
+                jobRepository.findByUserIdAndCompanyNorm(user.getId(), companyNorm, pageDetails).getContent());
     }
 
     @Override
     public List<JobApplicationDTO> getJobsByStatus(JobStatus status) {
 
-        User user = userService.getLoggedInUser();
+        UserPrincipal user = userService.getLoggedInUser();
+
+        return jobReadCache.get(user.getId(), List.of("status", status), () ->
+                jobRepository.findAllByStatusAndUserId(status, user.getId()));
 
-        return jobRepository
-                .findAllByStatusAndUserId(status, user.getId())
-                .stream()
-                .map(this::convertToDTO)
-                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<JobApplicationDTO> searchJobs(JobSearchCriteria criteria, int page, int size, String sort) {
+        UserPrincipal user = userService.getLoggedInUser();
+
+        Pageable pageDetails = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE), parseSort(sort));
+        Page<JobApplicationDTO> jobPage = jobRepository.findDTOs(JobSpecifications.matching(user.getId(), criteria), pageDetails);
+
+        return PageResponse.of(jobPage, Function.identity());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<JobApplicationDTO> scrollJobs(JobSearchCriteria criteria, String cursor, int size, boolean withTotal) {
+        UserPrincipal user = userService.getLoggedInUser();
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        JobCursor position = cursor == null || cursor.isBlank() ? null : JobCursor.decode(cursor);
+
+        Specification<JobApplication> filter = JobSpecifications.matching(user.getId(), criteria);
+        Specification<JobApplication> seek = position == null
+                ? filter
+                : filter.and(JobSpecifications.seekAfter(position.getAppliedDate(), position.getId()));
+
+        // fetch one extra row to learn whether another slice exists, so no COUNT(*) is needed
+        List<JobApplicationDTO> rows = jobRepository.findDTOs(seek, Sort.by(Sort.Direction.DESC, "appliedDate", "id"), limit + 1);
+
+        boolean hasNext = rows.size() > limit;
+        List<JobApplicationDTO> slice = hasNext ? rows.subList(0, limit) : rows;
+
+        Long total = position != null ? position.getTotal() : null;
+        if (position == null && withTotal)
+            total = jobRepository.count(filter);
+
+        String nextCursor = null;
+        if (hasNext) {
+            JobApplicationDTO last = slice.get(slice.size() - 1);
+            nextCursor = new JobCursor(last.getAppliedDate(), last.getId(), total).encode();
+        }
+
+        return CursorPage.<JobApplicationDTO>builder()
+                .content(slice)
+                .size(limit)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .totalElements(total)
+                .build();
+    }
 
+    // always scoped to the caller; an empty filter would match every job, so it has to be asked for with at least one criterion
+    private Specification<JobApplication> bulkTarget(Long userId, BulkJobRequestDTO request) {
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        JobSearchCriteria filter = request.getFilter();
+        if (byIds == (filter != null))
+            throw new InvalidRequestException("Give either a list of ids or a filter");
+        if (byIds)
+            return JobSpecifications.ownedBy(userId).and(JobSpecifications.idIn(request.getIds()));
+
+        boolean unrestricted = (filter.getStatus() == null || filter.getStatus().isEmpty())
+                && (filter.getCompany() == null || filter.getCompany().isBlank())
+                && filter.getFrom() == null && filter.getTo() == null;
+        if (unrestricted)
+            throw new InvalidRequestException("Filter needs at least one of status, company, from or to");
+        return JobSpecifications.matching(userId, filter);
+    }
+
+    // the supplied fields only are validated; a null member removes the value, which only a nullable field allows
+    private JobApplicationDTO readPatch(JsonNode patch) {
+        if (patch == null || !patch.isObject())
+            throw new InvalidRequestException("A merge patch must be a JSON object");
+        List<String> unknown = new ArrayList<>();
+        patch.fieldNames().forEachRemaining(field -> {
+            if (!PATCHABLE_FIELDS.contains(field))
+                unknown.add(field);
+        });
+        if (!unknown.isEmpty())
+            throw new InvalidRequestException("Cannot patch " + String.join(", ", unknown)
+                    + "; only " + String.join(", ", PATCHABLE_FIELDS) + " can be changed");
+
+        JobApplicationDTO values;
+        try {
+            values = objectMapper.treeToValue(patch, JobApplicationDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("Invalid merge patch: " + e.getOriginalMessage());
+        }
+        List<String> errors = new ArrayList<>();
+        for (String field : PATCHABLE_FIELDS)
+            if (patch.has(field))
+                validator.validateProperty(values, field).forEach(violation -> errors.add(violation.getMessage()));
+        if (!errors.isEmpty())
+            throw new InvalidRequestException(String.join(", ", errors));
+        return values;
+    }
+
+    private static void putIfChanged(Map<String, Object> changes, JsonNode patch, String field, Object value, Object current) {
+        if (patch.has(field) && !Objects.equals(value, current))
+            changes.put(field, value);
+    }
+
+    private Pageable newestFirst(int page, int size) {
+        return PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE),
+                Sort.by(Sort.Direction.DESC, "appliedDate", "id"));
+    }
+
+    // "field" or "field,asc|desc"; unknown fields fall back to newest first, id breaks ties
+    private Sort parseSort(String sort) {
+        Sort.Direction direction = Sort.Direction.DESC;
+        String field = "appliedDate";
+
+        if (sort != null && !sort.isBlank()) {
+            String[] parts = sort.split(",");
+            if (SORTABLE_FIELDS.contains(parts[0].trim()))
+                field = parts[0].trim();
+            if (parts.length > 1)
+                direction = Sort.Direction.fromOptionalString(parts[1].trim()).orElse(Sort.Direction.DESC);
+        }
+        Sort order = Sort.by(direction, field);
+        return "id".equals(field) ? order : order.and(Sort.by(direction, "id"));
     }
 
     private JobApplication convertToEntity(JobApplicationDTO jobApplicationDTO) {
-        return modelMapper.map(jobApplicationDTO,JobApplication.class);
+        return jobApplicationMapper.toEntity(jobApplicationDTO);
     }
 
     private JobApplicationDTO convertToDTO(JobApplication jobApplication) {
-        return modelMapper.map(jobApplication,JobApplicationDTO.class);
+        return jobApplicationMapper.toDTO(jobApplication);
     }
 
 }
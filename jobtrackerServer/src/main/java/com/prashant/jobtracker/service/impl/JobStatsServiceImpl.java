@@ -0,0 +1,188 @@
+package com.prashant.jobtracker.service.impl;
+
+import com.prashant.jobtracker.dto.JobStatsDTO;
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.entity.JobStatsCounter;
+import com.prashant.jobtracker.entity.enums.JobStatus;
+import com.prashant.jobtracker.entity.enums.StatsDimension;
+import com.prashant.jobtracker.repository.JobRepository;
+import com.prashant.jobtracker.repository.JobStatsCounterRepository;
+import com.prashant.jobtracker.repository.UserRepository;
+import com.prashant.jobtracker.security.UserPrincipal;
+import com.prashant.jobtracker.service.JobStatsService;
+import com.prashant.jobtracker.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Per-user counters by status, week and company, kept current by the job write paths so
+ * that reading them never scans job_applications. {@link #rebuild} recomputes a user's
+ * counters from the jobs table and is also run for everyone on a schedule to repair drift.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class JobStatsServiceImpl implements JobStatsService {
+
+    private final JobStatsCounterRepository counterRepository;
+    private final JobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public JobStatsDTO getStats() {
+        UserPrincipal user = userService.getLoggedInUser();
+
+        Map<JobStatus, Long> byStatus = new EnumMap<>(JobStatus.class);
+        Map<String, Long> byWeek = new TreeMap<>();
+        Map<String, Long> byCompany = new TreeMap<>();
+        long total = 0;
+
+        for (JobStatsCounter counter : counterRepository.findByUserId(user.getId())) {
+            if (counter.getTotal() == 0)
+                continue;
+            switch (counter.getDimension()) {
+                case STATUS -> {
+                    byStatus.put(JobStatus.valueOf(counter.getBucket()), counter.getTotal());
+                    total += counter.getTotal();
+                }
+                case WEEK -> byWeek.put(counter.getBucket(), counter.getTotal());
+                case COMPANY -> byCompany.put(counter.getBucket(), counter.getTotal());
+            }
+        }
+
+        return JobStatsDTO.builder()
+                .total(total)
+                .byStatus(byStatus)
+                .byWeek(byWeek)
+                .byCompany(byCompany)
+                .build();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAdded(JobApplication job) {
+        Deltas deltas = new Deltas();
+        deltas.add(job.getStatus(), job.getCompanyName(), job.getAppliedDate(), 1);
+        apply(job.getUser().getId(), deltas);
+    }
+
+    // one upsert per touched bucket for the whole batch, not three per job
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAdded(Long userId, Collection<JobApplication> jobs) {
+        Deltas deltas = new Deltas();
+        for (JobApplication job : jobs)
+            deltas.add(job.getStatus(), job.getCompanyName(), job.getAppliedDate(), 1);
+        apply(userId, deltas);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRemoved(JobApplication job) {
+        Deltas deltas = new Deltas();
+        deltas.add(job.getStatus(), job.getCompanyName(), job.getAppliedDate(), -1);
+        apply(job.getUser().getId(), deltas);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChanged(JobApplication job, JobStatus previousStatus, String previousCompany) {
+        Deltas deltas = new Deltas();
+        deltas.add(previousStatus, previousCompany, job.getAppliedDate(), -1);
+        deltas.add(job.getStatus(), job.getCompanyName(), job.getAppliedDate(), 1);
+        apply(job.getUser().getId(), deltas);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRemoved(Long userId, List<Object[]> removedGroups, long affected) {
+        Deltas deltas = new Deltas();
+        for (Object[] group : removedGroups)
+            deltas.add((JobStatus) group[0], (String) group[1], (LocalDate) group[2], -(Long) group[3]);
+        applyBulk(userId, deltas, removedGroups, affected);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChanged(Long userId, List<Object[]> changedGroups, JobStatus status, long affected) {
+        Deltas deltas = new Deltas();
+        for (Object[] group : changedGroups) {
+            long count = (Long) group[3];
+            deltas.add((JobStatus) group[0], (String) group[1], (LocalDate) group[2], -count);
+            deltas.add(status, (String) group[1], (LocalDate) group[2], count);
+        }
+        applyBulk(userId, deltas, changedGroups, affected);
+    }
+
+    @Override
+    @Transactional
+    public void rebuild(Long userId) {
+        // delete first: it waits for in-flight writers on these rows, so the scan below sees their jobs
+        counterRepository.deleteByUserId(userId);
+
+        Deltas deltas = new Deltas();
+        try (Stream<Object[]> rows = jobRepository.streamStatsColumnsByUserId(userId)) {
+            rows.forEach(row -> deltas.add((JobStatus) row[0], (String) row[1], (LocalDate) row[2], 1));
+        }
+        apply(userId, deltas);
+    }
+
+    @Override
+    @Scheduled(cron = "${stats.reconcile.cron}")
+    public void rebuildAll() {
+        List<Long> userIds = userRepository.findAllIds();
+        for (Long userId : userIds)
+            transactionTemplate.executeWithoutResult(status -> rebuild(userId));
+        log.info("Rebuilt job statistics for {} users", userIds.size());
+    }
+
+    // applied in a fixed (dimension, bucket) order so concurrent transactions lock rows in the same order
+    private void apply(Long userId, Deltas deltas) {
+        deltas.values.forEach((key, delta) -> {
+            if (delta != 0)
+                counterRepository.increment(userId, key.dimension().name(), key.bucket(), delta);
+        });
+    }
+
+    // the groups were counted before the statement ran; if a concurrent write changed the matching rows
+    // in between, the counts no longer add up to what the statement touched and the exact deltas are unknown
+    private void applyBulk(Long userId, Deltas deltas, List<Object[]> groups, long affected) {
+        long counted = groups.stream().mapToLong(group -> (Long) group[3]).sum();
+        if (counted == affected) {
+            apply(userId, deltas);
+            return;
+        }
+        log.warn("Bulk write for user {} touched {} jobs, {} were counted; rebuilding the user's statistics", userId, affected, counted);
+        rebuild(userId);
+    }
+
+    private record Key(StatsDimension dimension, String bucket) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key other) {
+            int byDimension = dimension.compareTo(other.dimension);
+            return byDimension != 0 ? byDimension : bucket.compareTo(other.bucket);
+        }
+    }
+
+    private static final class Deltas {
+        private final SortedMap<Key, Long> values = new TreeMap<>();
+
+        void add(JobStatus status, String company, LocalDate appliedDate, long delta) {
+            values.merge(new Key(StatsDimension.STATUS, status.name()), delta, Long::sum);
+            values.merge(new Key(StatsDimension.WEEK, JobStatsCounter.weekBucket(appliedDate)), delta, Long::sum);
+            values.merge(new Key(StatsDimension.COMPANY, JobStatsCounter.companyBucket(company)), delta, Long::sum);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.prashant.jobtracker.service.impl;
+
+import com.prashant.jobtracker.dto.JobApplicationDTO;
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.repository.JobRepository;
+import com.prashant.jobtracker.service.JobCollectionVersionService;
+import com.prashant.jobtracker.service.JobTextSearchService;
+import com.prashant.jobtracker.service.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Ranked full-text search over company, role and comment. Each user's index is built from the
+ * jobs table on their first search after startup and then kept current by the job write paths;
+ * only the most recently searched users stay in memory. Writes on other nodes only show in
+ * job_collection_versions, so a search that finds the stored version past the index's rebuilds it.
+ */
+@Service
+@Slf4j
+public class JobTextSearchServiceImpl implements JobTextSearchService {
+
+    private static final int MAX_RESULTS = 100;
+
+    private final JobRepository jobRepository;
+    private final UserService userService;
+    private final JobCollectionVersionService jobCollectionVersionService;
+    private final Map<Long, UserTextIndex> indexes;
+
+    public JobTextSearchServiceImpl(JobRepository jobRepository,
+                                    UserService userService,
+                                    JobCollectionVersionService jobCollectionVersionService,
+                                    @Value("${jobs.search.max-indexed-users}") int maxIndexedUsers) {
+        this.jobRepository = jobRepository;
+        this.userService = userService;
+        this.jobCollectionVersionService = jobCollectionVersionService;
+        this.indexes = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserTextIndex> eldest) {
+                return size() > maxIndexedUsers;
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<JobApplicationDTO> search(String query, int limit) {
+        Long userId = userService.getLoggedInUser().getId();
+        List<String> tokens = UserTextIndex.tokenize(query);
+        if (tokens.isEmpty())
+            return List.of();
+
+        List<Long> ids = indexFor(userId).search(tokens, Math.min(Math.max(limit, 1), MAX_RESULTS));
+        if (ids.isEmpty())
+            return List.of();
+
+        Map<Long, JobApplicationDTO> jobs = jobRepository.findDTOsByUserIdAndIdIn(userId, ids).stream()
+                .collect(Collectors.toMap(JobApplicationDTO::getId, Function.identity()));
+        return ids.stream()
+                .map(jobs::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public void recordSaved(JobApplication job, long version) {
+        Long userId = job.getUser().getId();
+        Long jobId = job.getId();
+        String company = job.getCompanyName();
+        String role = job.getJobRole();
+        String comment = job.getComment();
+        TransactionHooks.afterCommit(() -> {
+            UserTextIndex index = indexes.get(userId);
+            if (index != null)
+                index.put(jobId, company, role, comment, version);
+        });
+    }
+
+    @Override
+    public void recordRemoved(JobApplication job, long version) {
+        Long userId = job.getUser().getId();
+        Long jobId = job.getId();
+        TransactionHooks.afterCommit(() -> {
+            UserTextIndex index = indexes.get(userId);
+            if (index != null)
+                index.remove(jobId, version);
+        });
+    }
+
+    @Override
+    public void recordUnchanged(Long userId, long version) {
+        TransactionHooks.afterCommit(() -> {
+            UserTextIndex index = indexes.get(userId);
+            if (index != null)
+                index.skip(version);
+        });
+    }
+
+    @Override
+    public void recordBulkChange(Long userId) {
+        TransactionHooks.afterCommit(() -> indexes.remove(userId));
+    }
+
+    // the index is registered before the scan, so writes committed during the scan are not lost
+    private UserTextIndex indexFor(Long userId) {
+        long current = jobCollectionVersionService.currentVersion(userId);
+        UserTextIndex index = indexes.compute(userId,
+                (id, existing) -> existing == null || existing.isStale(current) ? new UserTextIndex() : existing);
+        index.ensureLoaded(current, empty -> {
+            long started = System.nanoTime();
+            try (Stream<Object[]> rows = jobRepository.streamSearchColumnsByUserId(userId)) {
+                rows.forEach(row -> empty.load((Long) row[0], (String) row[1], (String) row[2], (String) row[3]));
+            }
+            log.info("Built search index for user {}: {} jobs in {} ms", userId, empty.size(),
+                    (System.nanoTime() - started) / 1_000_000);
+        });
+        return index;
+    }
+}
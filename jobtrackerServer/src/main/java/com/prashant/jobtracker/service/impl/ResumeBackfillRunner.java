@@ -0,0 +1,55 @@
+package com.prashant.jobtracker.service.impl;
+
+import com.prashant.jobtracker.entity.Resume;
+import com.prashant.jobtracker.entity.enums.ResumeStatus;
+import com.prashant.jobtracker.repository.JobRepository;
+import com.prashant.jobtracker.repository.ResumeRepository;
+import com.prashant.jobtracker.service.JobCollectionVersionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One-off migration for applications created before resumes were stored by content: every
+ * distinct (user, resumeUsed link) becomes a {@link Resume} without a hash and its jobs are
+ * linked to it. The original bytes are not downloaded, so these never dedupe against new
+ * uploads. Enable with {@code resume.backfill.enabled=true}; it is safe to run repeatedly.
+ */
+@Component
+@ConditionalOnProperty(name = "resume.backfill.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ResumeBackfillRunner implements ApplicationRunner {
+
+    private final JobRepository jobRepository;
+    private final ResumeRepository resumeRepository;
+    private final JobCollectionVersionService jobCollectionVersionService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<Object[]> links = jobRepository.findUnlinkedResumeLinks();
+        log.info("Backfilling {} legacy resume links", links.size());
+
+        for (Object[] row : links) {
+            Long userId = (Long) row[0];
+            String link = (String) row[1];
+            transactionTemplate.executeWithoutResult(status -> {
+                Resume resume = new Resume();
+                resume.setUserId(userId);
+                resume.setLink(link);
+                resume.setStatus(ResumeStatus.UPLOADED);
+                resume.setCreatedAt(LocalDateTime.now());
+                if (jobRepository.linkResume(userId, link, resumeRepository.save(resume)) > 0)
+                    jobCollectionVersionService.bump(userId);
+            });
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.prashant.jobtracker.service.impl;
+
+import com.prashant.jobtracker.dto.ResumeDownload;
+import com.prashant.jobtracker.entity.Resume;
+import com.prashant.jobtracker.entity.enums.ResumeStatus;
+import com.prashant.jobtracker.exception.ResourceNotFoundException;
+import com.prashant.jobtracker.repository.ResumeRepository;
+import com.prashant.jobtracker.security.UserPrincipal;
+import com.prashant.jobtracker.service.CloudinaryService;
+import com.prashant.jobtracker.service.ResumeService;
+import com.prashant.jobtracker.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class ResumeServiceImpl implements ResumeService {
+
+    private final ResumeRepository resumeRepository;
+    private final UserService userService;
+    private final CloudinaryService cloudinaryService;
+
+    @Override
+    public ResumeDownload getDownload(Long resumeId) {
+        UserPrincipal user = userService.getLoggedInUser();
+
+        // someone else's resume is reported exactly like a missing one
+        Resume resume = resumeRepository.findById(resumeId)
+                .filter(r -> r.getUserId().equals(user.getId()))
+                .orElseThrow(() -> new ResourceNotFoundException("No resume found with id: " + resumeId));
+
+        if (resume.getStatus() != ResumeStatus.UPLOADED || resume.getLink() == null)
+            throw new ResourceNotFoundException("Resume " + resumeId + " is not available yet");
+
+        Path localFile = cloudinaryService.resolveLocal(resume.getLink());
+        if (localFile != null && !Files.isRegularFile(localFile))
+            throw new ResourceNotFoundException("Resume file for id " + resumeId + " is missing");
+
+        return new ResumeDownload(resume.getLink(), localFile, etag(resume, localFile), resume.getOriginalFilename());
+    }
+
+    // strong validator: the content hash when we have one, otherwise the immutable stored file's identity
+    private String etag(Resume resume, Path localFile) {
+        if (resume.getSha256() != null)
+            return "\"" + resume.getSha256() + "\"";
+        if (localFile == null)
+            return null;
+        try {
+            String identity = resume.getLink() + ":" + Files.size(localFile) + ":" + Files.getLastModifiedTime(localFile).toMillis();
+            return "\"" + UUID.nameUUIDFromBytes(identity.getBytes(StandardCharsets.UTF_8)) + "\"";
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
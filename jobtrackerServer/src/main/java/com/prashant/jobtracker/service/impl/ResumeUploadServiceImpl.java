@@ -0,0 +1,303 @@
+package com.prashant.jobtracker.service.impl;
+
+import com.prashant.jobtracker.dto.SpooledResume;
+import com.prashant.jobtracker.entity.Resume;
+import com.prashant.jobtracker.entity.ResumeUploadTask;
+import com.prashant.jobtracker.entity.enums.ResumeStatus;
+import com.prashant.jobtracker.entity.enums.UploadTaskStatus;
+import com.prashant.jobtracker.repository.JobRepository;
+import com.prashant.jobtracker.repository.ResumeRepository;
+import com.prashant.jobtracker.repository.ResumeUploadTaskRepository;
+import com.prashant.jobtracker.service.CloudinaryService;
+import com.prashant.jobtracker.service.JobCollectionVersionService;
+import com.prashant.jobtracker.service.ResumeUploadService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Moves resume uploads off the request path and deduplicates them by content. addJob spools
+ * the file to local disk and hashes it; a resume this user already stored is reused as is,
+ * otherwise a {@link Resume} row and an outbox task are written together and a bounded
+ * worker pool pushes the file to storage afterwards, with exponential back-off between
+ * attempts. No DB connection is held while the remote upload is in flight.
+ */
+@Service
+@Slf4j
+public class ResumeUploadServiceImpl implements ResumeUploadService {
+
+    private static final int POLL_BATCH = 50;
+    private static final long BASE_BACKOFF_SECONDS = 10;
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final ResumeUploadTaskRepository taskRepository;
+    private final ResumeRepository resumeRepository;
+    private final JobRepository jobRepository;
+    private final CloudinaryService cloudinaryService;
+    private final JobCollectionVersionService jobCollectionVersionService;
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final Path spoolDir;
+    private final int maxAttempts;
+    private final long staleAfterMinutes;
+    private final MeterRegistry meterRegistry;
+    private final String backend;
+    private final DistributionSummary uploadedBytes;
+
+    public ResumeUploadServiceImpl(ResumeUploadTaskRepository taskRepository,
+                                   ResumeRepository resumeRepository,
+                                   JobRepository jobRepository,
+                                   CloudinaryService cloudinaryService,
+                                   JobCollectionVersionService jobCollectionVersionService,
+                                   @Qualifier("resumeUploadExecutor") ThreadPoolTaskExecutor executor,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${resume.upload.spool-dir}") String spoolDir,
+                                   @Value("${resume.upload.max-attempts}") int maxAttempts,
+                                   @Value("${resume.upload.stale-after-minutes}") long staleAfterMinutes,
+                                   @Value("${storage.backend}") String backend,
+                                   MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.resumeRepository = resumeRepository;
+        this.jobRepository = jobRepository;
+        this.cloudinaryService = cloudinaryService;
+        this.jobCollectionVersionService = jobCollectionVersionService;
+        this.executor = executor;
+        this.transactionTemplate = transactionTemplate;
+        this.spoolDir = persistentDirectory(spoolDir);
+        this.maxAttempts = maxAttempts;
+        this.staleAfterMinutes = staleAfterMinutes;
+        this.backend = backend;
+        this.meterRegistry = meterRegistry;
+        this.uploadedBytes = DistributionSummary.builder("resume.upload.bytes")
+                .baseUnit("bytes")
+                .tag("backend", backend)
+                .register(meterRegistry);
+    }
+
+    // outbox rows point at these files until the upload succeeds, so they have to outlive restarts and tmp cleaners
+    private static Path persistentDirectory(String configured) {
+        if (configured == null || configured.isBlank())
+            throw new IllegalStateException("resume.upload.spool-dir must be set to a persistent directory");
+        Path dir = Paths.get(configured).toAbsolutePath().normalize();
+        if (dir.startsWith(Paths.get(System.getProperty("java.io.tmpdir")).toAbsolutePath().normalize()))
+            throw new IllegalStateException("resume.upload.spool-dir must not be under java.io.tmpdir: " + dir);
+        try {
+            return Files.createDirectories(dir);
+        } catch (IOException e) {
+            throw new IllegalStateException("resume.upload.spool-dir " + dir + " cannot be created", e);
+        }
+    }
+
+    @Override
+    public SpooledResume spool(MultipartFile file) {
+        Path target = null;
+        try {
+            Files.createDirectories(spoolDir);
+            target = spoolDir.resolve(UUID.randomUUID() + ".pdf");
+            // a move when the container already spooled the part to disk, a copy otherwise. The hash is a
+            // second pass over the spooled file: hashing inside the copy would turn that move into a full copy
+            file.transferTo(target);
+            return new SpooledResume(target, sha256(target), Files.size(target), file.getOriginalFilename());
+        } catch (IOException e) {
+            if (target != null)
+                discard(target);
+            log.error("Error while spooling resume", e);
+            throw new UncheckedIOException("Resume could not be stored", e);
+        }
+    }
+
+    @Override
+    public Resume findOrStore(Long userId, SpooledResume spooled) {
+        try {
+            return transactionTemplate.execute(status -> findOrCreate(userId, spooled));
+        } catch (DataIntegrityViolationException ex) {
+            // a concurrent request stored the same file first; use theirs
+            discard(spooled.getPath());
+            return resumeRepository.findByUserIdAndSha256(userId, spooled.getSha256()).orElseThrow(() -> ex);
+        } catch (RuntimeException ex) {
+            discard(spooled.getPath());
+            throw ex;
+        }
+    }
+
+    private Resume findOrCreate(Long userId, SpooledResume spooled) {
+        Optional<Resume> existing = resumeRepository.findByUserIdAndSha256(userId, spooled.getSha256());
+
+        if (existing.isPresent() && existing.get().getStatus() != ResumeStatus.FAILED) {
+            discard(spooled.getPath());
+            return existing.get();
+        }
+
+        Resume resume;
+        if (existing.isPresent()) {
+            // the previous copy never made it to storage, retry with this one
+            resume = existing.get();
+            resume.setStatus(ResumeStatus.PENDING);
+            updateJobLinks(resume.getId(), null, ResumeStatus.PENDING);
+        } else {
+            resume = new Resume();
+            resume.setUserId(userId);
+            resume.setSha256(spooled.getSha256());
+            resume.setSize(spooled.getSize());
+            resume.setOriginalFilename(spooled.getOriginalFilename());
+            resume.setStatus(ResumeStatus.PENDING);
+            resume.setCreatedAt(LocalDateTime.now());
+        }
+        resume = resumeRepository.save(resume);
+        enqueue(resume.getId(), spooled);
+        return resume;
+    }
+
+    private void enqueue(Long resumeId, SpooledResume spooled) {
+        ResumeUploadTask task = new ResumeUploadTask();
+        task.setResumeId(resumeId);
+        task.setSpoolPath(spooled.getPath().toString());
+        task.setOriginalFilename(spooled.getOriginalFilename());
+        task.setStatus(UploadTaskStatus.PENDING);
+        task.setNextAttemptAt(LocalDateTime.now());
+        Long taskId = taskRepository.save(task).getId();
+        TransactionHooks.afterCommit(() -> dispatch(taskId));
+    }
+
+    @Override
+    public void discard(Path spooled) {
+        try {
+            Files.deleteIfExists(spooled);
+        } catch (IOException e) {
+            log.warn("Could not delete spooled resume {}", spooled, e);
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${resume.upload.poll-interval-ms}")
+    public void processDueTasks() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> due = transactionTemplate.execute(status -> {
+            taskRepository.releaseStale(now.minusMinutes(staleAfterMinutes));
+            return taskRepository.findDueIds(UploadTaskStatus.PENDING, now, PageRequest.of(0, POLL_BATCH));
+        });
+        due.forEach(this::dispatch);
+    }
+
+    private void dispatch(Long taskId) {
+        try {
+            executor.execute(() -> run(taskId));
+        } catch (TaskRejectedException ex) {
+            // queue is full; the task stays PENDING and the next poll picks it up
+            log.debug("Upload queue full, deferring resume task {}", taskId);
+        }
+    }
+
+    private void run(Long taskId) {
+        ResumeUploadTask task = transactionTemplate.execute(status ->
+                taskRepository.claim(taskId, LocalDateTime.now()) == 1 ? taskRepository.findById(taskId).orElse(null) : null);
+        if (task == null)
+            return;
+
+        Path spooled = Paths.get(task.getSpoolPath());
+        try {
+            String link = timedUpload(spooled);
+            transactionTemplate.executeWithoutResult(status -> {
+                // resume row first: it is the lock addJob takes before linking a job to it
+                resumeRepository.updateLink(task.getResumeId(), link, ResumeStatus.UPLOADED);
+                updateJobLinks(task.getResumeId(), link, ResumeStatus.UPLOADED);
+                task.setStatus(UploadTaskStatus.DONE);
+                task.setLastError(null);
+                taskRepository.save(task);
+            });
+            discard(spooled);
+        } catch (RuntimeException ex) {
+            fail(task, ex);
+        }
+    }
+
+    // resume.upload times the storage call alone, per backend and outcome; the bytes count successful uploads
+    private String timedUpload(Path spooled) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            long size = Files.size(spooled);
+            String link = cloudinaryService.uploadPdf(spooled);
+            outcome = "success";
+            uploadedBytes.record(size);
+            return link;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Spooled resume " + spooled + " is unreadable", e);
+        } finally {
+            sample.stop(Timer.builder("resume.upload")
+                    .tag("backend", backend)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private void fail(ResumeUploadTask task, RuntimeException ex) {
+        int attempts = task.getAttempts() + 1;
+        boolean exhausted = attempts >= maxAttempts;
+        log.warn("Resume upload {} failed (attempt {}/{})", task.getId(), attempts, maxAttempts, ex);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            task.setAttempts(attempts);
+            task.setLastError(ex.getMessage() == null ? null : ex.getMessage().substring(0, Math.min(ex.getMessage().length(), 500)));
+            if (exhausted) {
+                task.setStatus(UploadTaskStatus.FAILED);
+                resumeRepository.updateLink(task.getResumeId(), null, ResumeStatus.FAILED);
+                updateJobLinks(task.getResumeId(), null, ResumeStatus.FAILED);
+            } else {
+                task.setStatus(UploadTaskStatus.PENDING);
+                task.setNextAttemptAt(LocalDateTime.now().plusSeconds(BASE_BACKOFF_SECONDS << (attempts - 1)));
+            }
+            taskRepository.save(task);
+        });
+        if (exhausted)
+            discard(Paths.get(task.getSpoolPath()));
+    }
+
+    // the jobs show the link and status, so their owner's listings have to revalidate
+    private void updateJobLinks(Long resumeId, String link, ResumeStatus status) {
+        if (jobRepository.updateResumeLink(resumeId, link, status) > 0)
+            resumeRepository.findById(resumeId).ifPresent(resume -> jobCollectionVersionService.bump(resume.getUserId()));
+    }
+
+    private static String sha256(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (in.read(buffer) != -1) {
+                // digest is updated as the stream is read
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
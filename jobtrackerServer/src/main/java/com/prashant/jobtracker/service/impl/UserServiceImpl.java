@@ -4,12 +4,13 @@ import com.prashant.jobtracker.dto.UserDTO;
 import com.prashant.jobtracker.entity.User;
 import com.prashant.jobtracker.exception.ResourceAlreadyExistsException;
 import com.prashant.jobtracker.exception.ResourceNotFoundException;
+import com.prashant.jobtracker.mapper.UserMapper;
 import com.prashant.jobtracker.repository.UserRepository;
+import com.prashant.jobtracker.security.UserPrincipal;
 import com.prashant.jobtracker.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -26,7 +27,7 @@ import java.util.Optional;
 public class UserServiceImpl implements UserDetailsService, UserService {
 
     private final UserRepository userRepository;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
 
 
@@ -54,11 +55,11 @@ public class UserServiceImpl implements UserDetailsService, UserService {
 
     }
 
-    public User getLoggedInUser() {
+    public UserPrincipal getLoggedInUser() {
         Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
 
-        if (principal instanceof User) {
-            return (User) principal;
+        if (principal instanceof UserPrincipal) {
+            return (UserPrincipal) principal;
         }
 
         return null;
@@ -71,16 +72,21 @@ public class UserServiceImpl implements UserDetailsService, UserService {
     }
 
     public UserDTO getUserDetails() {
-        User user = getLoggedInUser();
-        return convertToDTO(user);
+        UserPrincipal user = getLoggedInUser();
+
+        UserDTO dto = new UserDTO();
+        dto.setId(user.getId());
+        dto.setName(user.getName());
+        dto.setEmail(user.getEmail());
+        return dto;
     }
 
     private User convertToEntity(UserDTO userDTO ){
-        return modelMapper.map(userDTO,User.class);
+        return userMapper.toEntity(userDTO);
     }
 
     private UserDTO convertToDTO(User user) {
-        return modelMapper.map(user,UserDTO.class);
+        return userMapper.toDTO(user);
     }
 
 }
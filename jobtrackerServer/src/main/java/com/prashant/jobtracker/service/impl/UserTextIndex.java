@@ -0,0 +1,303 @@
+package com.prashant.jobtracker.service.impl;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index over one user's company names, roles and comments. Terms are case- and
+ * accent-folded and kept sorted, so a query token matches every term it is a prefix of with
+ * a range scan instead of a table scan. It is tagged with the collection version it reflects,
+ * which only moves on this node's writes; a stored version past it means another node wrote.
+ */
+final class UserTextIndex {
+
+    static final int COMPANY_WEIGHT = 3;
+    static final int ROLE_WEIGHT = 2;
+    static final int COMMENT_WEIGHT = 1;
+
+    // shorter query tokens only match whole terms, otherwise "a" would expand to half the dictionary
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // held for the whole initial scan, a JDBC read; a monitor there would pin a waiting virtual thread to its carrier
+    private final ReentrantLock loadLock = new ReentrantLock();
+    // jobs are numbered densely so that postings and per-query scores are plain arrays
+    private final Map<Long, Integer> docByJob = new HashMap<>();
+    private long[] jobByDoc = new long[16];
+    // a job's distinct terms, needed to take it out again
+    private String[][] termsByDoc = new String[16][];
+    private final Deque<Integer> freeDocs = new ArrayDeque<>();
+    private int docLimit;
+    private final NavigableMap<String, Postings> postings = new TreeMap<>();
+    // jobs changed by live writes while the initial scan runs; the scan must not overwrite them
+    private Set<Long> changedWhileLoading = new HashSet<>();
+    private volatile boolean loaded;
+    private long version = -1;
+
+    // version is the stored one read before the scan; writes committed after it reach put/remove
+    void ensureLoaded(long version, Consumer<UserTextIndex> loader) {
+        if (loaded)
+            return;
+        loadLock.lock();
+        try {
+            if (loaded)
+                return;
+            lock.writeLock().lock();
+            try {
+                this.version = version;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            loader.accept(this);
+            lock.writeLock().lock();
+            try {
+                changedWhileLoading = null;
+                loaded = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    // a row from the initial scan
+    void load(Long jobId, String company, String role, String comment) {
+        lock.writeLock().lock();
+        try {
+            if (changedWhileLoading != null && changedWhileLoading.contains(jobId))
+                return;
+            index(jobId, company, role, comment);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void put(Long jobId, String company, String role, String comment, long writeVersion) {
+        lock.writeLock().lock();
+        try {
+            if (!advance(writeVersion))
+                return;
+            if (changedWhileLoading != null)
+                changedWhileLoading.add(jobId);
+            index(jobId, company, role, comment);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long jobId, long writeVersion) {
+        lock.writeLock().lock();
+        try {
+            if (!advance(writeVersion))
+                return;
+            if (changedWhileLoading != null)
+                changedWhileLoading.add(jobId);
+            unindex(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the jobs matching every query token, best first. Each term a token matches adds
+     * its field weight times its idf to the job's score; whole-term matches count double
+     * compared to prefix matches. Ties go to the newer (higher) id.
+     */
+    List<Long> search(List<String> tokens, int limit) {
+        lock.readLock().lock();
+        try {
+            int[] matchedTokens = new int[docLimit];
+            float[] scores = new float[docLimit];
+            for (int k = 0; k < tokens.size(); k++) {
+                String token = tokens.get(k);
+                boolean any = false;
+                for (Map.Entry<String, Postings> term : expand(token).entrySet()) {
+                    Postings jobs = term.getValue();
+                    float idf = (float) Math.log(1 + (double) docByJob.size() / jobs.size);
+                    float boost = term.getKey().length() == token.length() ? 1f : 0.5f;
+                    for (int i = 0; i < jobs.size; i++) {
+                        int doc = jobs.docs[i];
+                        // jobs that missed an earlier token are out already
+                        if (matchedTokens[doc] < k)
+                            continue;
+                        matchedTokens[doc] = k + 1;
+                        scores[doc] += jobs.weights[i] * idf * boost;
+                        any = true;
+                    }
+                }
+                if (!any)
+                    return List.of();
+            }
+            return top(matchedTokens, scores, tokens.size(), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // a write that didn't touch the indexed columns
+    void skip(long writeVersion) {
+        lock.writeLock().lock();
+        try {
+            advance(writeVersion);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // true once loaded and behind the stored version: a write this node never saw, or whose hook arrived out of order
+    boolean isStale(long storedVersion) {
+        lock.readLock().lock();
+        try {
+            return loaded && version < storedVersion;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return docByJob.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank())
+            return List.of();
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : NON_WORD.split(folded))
+            if (!token.isEmpty())
+                tokens.add(token);
+        return tokens;
+    }
+
+    // false for a write the index already reflects, i.e. one committed before the version the scan started from
+    private boolean advance(long writeVersion) {
+        if (version >= 0 && writeVersion <= version)
+            return false;
+        if (writeVersion == version + 1)
+            version = writeVersion;
+        return true;
+    }
+
+    private SortedMap<String, Postings> expand(String token) {
+        if (token.length() < MIN_PREFIX_LENGTH) {
+            Postings exact = postings.get(token);
+            return exact == null ? Collections.emptySortedMap() : new TreeMap<>(Map.of(token, exact));
+        }
+        return postings.subMap(token, true, token + Character.MAX_VALUE, false);
+    }
+
+    private void index(Long jobId, String company, String role, String comment) {
+        unindex(jobId);
+        Map<String, Integer> weights = new HashMap<>();
+        for (String term : tokenize(company))
+            weights.merge(term, COMPANY_WEIGHT, Integer::sum);
+        for (String term : tokenize(role))
+            weights.merge(term, ROLE_WEIGHT, Integer::sum);
+        for (String term : tokenize(comment))
+            weights.merge(term, COMMENT_WEIGHT, Integer::sum);
+
+        int doc = allocateDoc(jobId);
+        weights.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new Postings()).add(doc, weight));
+        termsByDoc[doc] = weights.keySet().toArray(String[]::new);
+    }
+
+    private void unindex(Long jobId) {
+        Integer doc = docByJob.remove(jobId);
+        if (doc == null)
+            return;
+        for (String term : termsByDoc[doc]) {
+            Postings jobs = postings.get(term);
+            jobs.remove(doc);
+            if (jobs.size == 0)
+                postings.remove(term);
+        }
+        termsByDoc[doc] = null;
+        freeDocs.push(doc);
+    }
+
+    private int allocateDoc(Long jobId) {
+        int doc;
+        if (!freeDocs.isEmpty()) {
+            doc = freeDocs.pop();
+        } else {
+            doc = docLimit++;
+            if (doc == jobByDoc.length) {
+                jobByDoc = Arrays.copyOf(jobByDoc, doc * 2);
+                termsByDoc = Arrays.copyOf(termsByDoc, doc * 2);
+            }
+        }
+        jobByDoc[doc] = jobId;
+        docByJob.put(jobId, doc);
+        return doc;
+    }
+
+    // best `limit` docs kept sorted in two small arrays; most docs fail the comparison with the current last
+    private List<Long> top(int[] matchedTokens, float[] scores, int tokenCount, int limit) {
+        int[] best = new int[limit];
+        int size = 0;
+        // docs are mostly numbered in load order, i.e. ascending ids; walking backwards lets
+        // equal scores be rejected immediately instead of displacing one another
+        for (int doc = matchedTokens.length - 1; doc >= 0; doc--) {
+            if (matchedTokens[doc] != tokenCount)
+                continue;
+            if (size == limit && !ranksAbove(doc, best[limit - 1], scores))
+                continue;
+            int at = size == limit ? limit - 1 : size++;
+            while (at > 0 && ranksAbove(doc, best[at - 1], scores)) {
+                best[at] = best[at - 1];
+                at--;
+            }
+            best[at] = doc;
+        }
+        List<Long> ids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            ids.add(jobByDoc[best[i]]);
+        return ids;
+    }
+
+    private boolean ranksAbove(int doc, int other, float[] scores) {
+        return scores[doc] > scores[other] || (scores[doc] == scores[other] && jobByDoc[doc] > jobByDoc[other]);
+    }
+
+    // unordered docs with their weights; removal swaps the last entry into the gap
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] weights = new int[4];
+        private int size;
+
+        void add(int doc, int weight) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docs[size] = doc;
+            weights[size] = weight;
+            size++;
+        }
+
+        void remove(int doc) {
+            for (int i = 0; i < size; i++) {
+                if (docs[i] == doc) {
+                    size--;
+                    docs[i] = docs[size];
+                    weights[i] = weights[size];
+                    return;
+                }
+            }
+        }
+    }
+}
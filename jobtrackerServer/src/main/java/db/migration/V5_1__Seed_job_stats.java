@@ -0,0 +1,83 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Counts the jobs saved before job_stats_counters existed, with the buckets the write paths used
+ * at the time. Those rules are copied here rather than called, so later changes to the application's
+ * rules never change what this migration does. The groups arrive ordered by user and are written
+ * one user at a time.
+ */
+public class V5_1__Seed_job_stats extends BaseJavaMigration {
+
+    private static final int FETCH_SIZE = 1000;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement select = connection.createStatement();
+             PreparedStatement insert = connection.prepareStatement(
+                     "insert into job_stats_counters (user_id, dimension, bucket, total) values (?, ?, ?, ?)")) {
+            select.setFetchSize(FETCH_SIZE);
+            try (ResultSet groups = select.executeQuery("select user_id, status, company_name, applied_date, count(*) "
+                    + "from job_applications where user_id is not null "
+                    + "group by user_id, status, company_name, applied_date order by user_id")) {
+                Long userId = null;
+                Map<String, Map<String, Long>> totals = new TreeMap<>();
+                while (groups.next()) {
+                    long rowUserId = groups.getLong(1);
+                    if (userId != null && userId != rowUserId)
+                        write(insert, userId, totals);
+                    userId = rowUserId;
+
+                    long count = groups.getLong(5);
+                    add(totals, "STATUS", groups.getString(2), count);
+                    add(totals, "COMPANY", companyBucket(groups.getString(3)), count);
+                    add(totals, "WEEK", weekBucket(groups.getDate(4).toLocalDate()), count);
+                }
+                if (userId != null)
+                    write(insert, userId, totals);
+            }
+        }
+    }
+
+    // trimmed and lower-cased, without collapsing inner whitespace; bucket is a varchar(120)
+    private static String companyBucket(String companyName) {
+        String normalized = companyName.trim().toLowerCase(Locale.ROOT);
+        return normalized.length() > 120 ? normalized.substring(0, 120) : normalized;
+    }
+
+    private static String weekBucket(LocalDate appliedDate) {
+        return appliedDate.with(DayOfWeek.MONDAY).toString();
+    }
+
+    private static void add(Map<String, Map<String, Long>> totals, String dimension, String bucket, long count) {
+        totals.computeIfAbsent(dimension, d -> new TreeMap<>()).merge(bucket, count, Long::sum);
+    }
+
+    private static void write(PreparedStatement insert, long userId, Map<String, Map<String, Long>> totals) throws SQLException {
+        for (Map.Entry<String, Map<String, Long>> dimension : totals.entrySet()) {
+            for (Map.Entry<String, Long> bucket : dimension.getValue().entrySet()) {
+                insert.setLong(1, userId);
+                insert.setString(2, dimension.getKey());
+                insert.setString(3, bucket.getKey());
+                insert.setLong(4, bucket.getValue());
+                insert.addBatch();
+            }
+        }
+        insert.executeBatch();
+        totals.clear();
+    }
+}
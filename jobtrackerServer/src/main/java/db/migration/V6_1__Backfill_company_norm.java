@@ -0,0 +1,49 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Locale;
+
+/**
+ * Fills company_norm on the jobs saved before the column existed, once, with the rule new rows got
+ * from JobApplication.normalizeCompany when V6 shipped, copied so that later changes to it leave this
+ * migration alone. Walks the table by id in batches so no statement scans more than one batch.
+ */
+public class V6_1__Backfill_company_norm extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (PreparedStatement select = connection.prepareStatement(
+                     "select id, company_name from job_applications where id > ? order by id limit " + BATCH_SIZE);
+             PreparedStatement update = connection.prepareStatement(
+                     "update job_applications set company_norm = ? where id = ?")) {
+            long lastId = 0;
+            int rows;
+            do {
+                rows = 0;
+                select.setLong(1, lastId);
+                try (ResultSet jobs = select.executeQuery()) {
+                    while (jobs.next()) {
+                        lastId = jobs.getLong(1);
+                        update.setString(1, normalize(jobs.getString(2)));
+                        update.setLong(2, lastId);
+                        update.addBatch();
+                        rows++;
+                    }
+                }
+                update.executeBatch();
+            } while (rows == BATCH_SIZE);
+        }
+    }
+
+    private static String normalize(String companyName) {
+        return companyName == null ? null : companyName.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,31 @@
+-- The schema as Hibernate created it before migrations were introduced. Existing databases are
+-- baselined at this version and skip it.
+
+create table users (
+    id bigint not null auto_increment,
+    name varchar(50) not null,
+    email varchar(100) not null,
+    password varchar(100) not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table users
+    add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+create table job_applications (
+    applied_date date not null,
+    id bigint not null auto_increment,
+    user_id bigint,
+    comment varchar(255),
+    company_name varchar(255) not null,
+    job_id varchar(255),
+    job_role varchar(255) not null,
+    resume_used varchar(255) not null,
+    status enum ('ACCEPTED','APPLIED','INTERVIEWING','OFFERED','ON_HOLD','REJECTED') not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table job_applications
+    add constraint FKqs2guhg7p83917vto86imuthy
+    foreign key (user_id)
+    references users (id);
@@ -0,0 +1,7 @@
+-- Per-user listings by date and by status, newest first.
+
+create index idx_job_user_applied
+    on job_applications (user_id, applied_date);
+
+create index idx_job_user_status
+    on job_applications (user_id, status, applied_date);
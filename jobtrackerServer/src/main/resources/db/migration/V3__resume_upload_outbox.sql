@@ -0,0 +1,24 @@
+-- Resumes are uploaded after the job is saved: the job carries the upload state, the outbox the pending work.
+
+alter table job_applications
+    add column resume_status enum ('FAILED','PENDING','UPLOADED');
+
+-- empty until the upload worker has stored the file
+alter table job_applications
+    modify column resume_used varchar(255) null;
+
+create table resume_upload_outbox (
+    attempts integer not null,
+    claimed_at datetime(6),
+    id bigint not null auto_increment,
+    job_application_id bigint not null,
+    next_attempt_at datetime(6) not null,
+    last_error varchar(500),
+    original_filename varchar(255),
+    spool_path varchar(255) not null,
+    status enum ('DONE','FAILED','IN_PROGRESS','PENDING') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_outbox_status_next
+    on resume_upload_outbox (status, next_attempt_at);
@@ -0,0 +1,33 @@
+-- One row per distinct resume file and user; jobs and upload tasks point at it instead of carrying
+-- their own copy. Links stored before this live on in resume_used, resume.backfill.enabled ties them
+-- to resume rows.
+
+create table resumes (
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    size bigint not null,
+    user_id bigint not null,
+    sha256 varchar(64),
+    link varchar(255),
+    original_filename varchar(255),
+    status enum ('FAILED','PENDING','UPLOADED') not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table resumes
+    add constraint uk_resume_user_hash unique (user_id, sha256);
+
+alter table job_applications
+    add column resume_id bigint;
+
+alter table job_applications
+    add constraint FKk4viovdwx74ekora09ddcu3h2
+    foreign key (resume_id)
+    references resumes (id);
+
+-- tasks upload a resume now, not a job's file; V3 ships in the same release, so there are no tasks to carry over
+alter table resume_upload_outbox
+    drop column job_application_id;
+
+alter table resume_upload_outbox
+    add column resume_id bigint not null;
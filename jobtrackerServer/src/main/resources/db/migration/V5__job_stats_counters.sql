@@ -0,0 +1,13 @@
+-- Pre-aggregated counts per user by status, week and company; V5.1 fills them for the existing jobs.
+
+create table job_stats_counters (
+    id bigint not null auto_increment,
+    total bigint not null,
+    user_id bigint not null,
+    bucket varchar(120) not null,
+    dimension enum ('COMPANY','STATUS','WEEK') not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table job_stats_counters
+    add constraint uk_stats_user_dim_bucket unique (user_id, dimension, bucket);
@@ -0,0 +1,4 @@
+-- Created after the backfill so V6.1's updates don't maintain it row by row.
+
+create index idx_job_user_company
+    on job_applications (user_id, company_norm, applied_date);
@@ -0,0 +1,4 @@
+-- Normalized company name for the by-company lookup; V6.1 fills it on existing rows and V6.2 indexes it.
+
+alter table job_applications
+    add column company_norm varchar(255);
@@ -0,0 +1,12 @@
+-- Optimistic locking on jobs and one version row per user's collection, for ETags and If-Match.
+-- Users without a row are at version 0; the row is created by their first write.
+
+alter table job_applications
+    add column version bigint default 0 not null;
+
+create table job_collection_versions (
+    modified_at datetime(6) not null,
+    user_id bigint not null,
+    version bigint not null,
+    primary key (user_id)
+) engine=InnoDB;
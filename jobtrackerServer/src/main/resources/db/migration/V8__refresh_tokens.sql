@@ -0,0 +1,15 @@
+-- Refresh tokens that are still usable, shared by all nodes so a used or revoked one fails everywhere.
+-- Tokens issued before this migration have no row and need one new login.
+
+create table refresh_tokens (
+    expires_at datetime(6) not null,
+    user_id bigint not null,
+    id varchar(36) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_refresh_token_user
+    on refresh_tokens (user_id);
+
+create index idx_refresh_token_expires
+    on refresh_tokens (expires_at);
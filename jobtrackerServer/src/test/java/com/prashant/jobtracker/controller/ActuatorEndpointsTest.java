@@ -0,0 +1,74 @@
+package com.prashant.jobtracker.controller;
+
+import com.prashant.jobtracker.entity.User;
+import com.prashant.jobtracker.repository.UserRepository;
+import com.prashant.jobtracker.security.UserPrincipal;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// tests get a plain in-memory registry unless observability is switched on
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class ActuatorEndpointsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void prometheusScrapeIsOpenAndCoversTheHotPaths() throws Exception {
+        String email = "metrics-" + UUID.randomUUID() + "@example.com";
+        mockMvc.perform(post("/auth/signup").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"metrics\", \"email\": \"" + email + "\", \"password\": \"secret\"}"))
+                .andExpect(status().isCreated());
+        User user = userRepository.findByEmail(email).orElseThrow();
+        mockMvc.perform(get("/jobs").with(authentication(
+                        new UsernamePasswordAuthenticationToken(UserPrincipal.from(user), null, List.of()))))
+                .andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape).contains(
+                "http_server_requests_seconds_bucket{",
+                "uri=\"/jobs\"",
+                "uri=\"/auth/signup\"",
+                "auth_password_hash_seconds_count{operation=\"encode\"",
+                "hikaricp_connections_pending",
+                "hibernate_statements_total",
+                "cache_gets_total{cache=\"jobReads\"");
+    }
+
+    // statistics stay on for the metrics, without Hibernate's INFO block at the end of every session
+    @Test
+    void sessionStatisticsAreNotLogged() {
+        assertThat(LoggerFactory.getLogger("org.hibernate.engine.internal.StatisticalLoggingSessionEventListener")
+                .isInfoEnabled()).isFalse();
+    }
+
+    @Test
+    void otherEndpointsNeedALogin() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().is4xxClientError());
+    }
+}
@@ -0,0 +1,50 @@
+package com.prashant.jobtracker.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Through the embedded Tomcat, which resolves X-Forwarded-For from the trusted loopback proxy:
+ * clients behind one balancer get an address bucket each instead of sharing the balancer's.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "auth.rate-limit.address.capacity=2")
+@ActiveProfiles("test")
+class AuthRateLimitForwardedTest {
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void addressBucketIsPerForwardedClient() throws Exception {
+        assertThat(login("203.0.113.10")).isNotEqualTo(429);
+        assertThat(login("203.0.113.10")).isNotEqualTo(429);
+        assertThat(login("203.0.113.10")).isEqualTo(429);
+
+        assertThat(login("203.0.113.11")).isNotEqualTo(429);
+        // the balancer appends the client it saw; the leftmost entry is whatever the client sent
+        assertThat(login("198.51.100.7, 203.0.113.10")).isEqualTo(429);
+    }
+
+    private int login(String forwardedFor) throws Exception {
+        String body = "{\"email\": \"" + UUID.randomUUID() + "@example.com\", \"password\": \"wrong\"}";
+        return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .header("X-Forwarded-For", forwardedFor)
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
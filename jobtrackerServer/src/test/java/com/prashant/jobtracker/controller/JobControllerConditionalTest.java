@@ -0,0 +1,111 @@
+package com.prashant.jobtracker.controller;
+
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.entity.User;
+import com.prashant.jobtracker.entity.enums.JobStatus;
+import com.prashant.jobtracker.repository.JobRepository;
+import com.prashant.jobtracker.repository.UserRepository;
+import com.prashant.jobtracker.support.TestUsers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JobControllerConditionalTest {
+
+    private static final String UPDATE = """
+            {"companyName": "Stripe", "jobRole": "Backend Engineer", "status": "INTERVIEWING", "appliedDate": "2025-01-06"}""";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @MockitoSpyBean
+    private JobRepository jobRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private RequestPostProcessor owner;
+    private Long jobId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        User user = TestUsers.create(userRepository, "etag");
+        owner = TestUsers.login(user);
+
+        JobApplication job = new JobApplication();
+        job.setUser(user);
+        job.setCompanyName("Stripe");
+        job.setJobRole("Engineer");
+        job.setStatus(JobStatus.APPLIED);
+        job.setAppliedDate(LocalDate.of(2025, 1, 6));
+        jobId = jobRepository.save(job).getId();
+    }
+
+    @Test
+    void listingIsRevalidatedWithoutTouchingTheJobTable() throws Exception {
+        String etag = mockMvc.perform(get("/jobs").with(owner))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        Mockito.clearInvocations(jobRepository);
+        mockMvc.perform(get("/jobs").with(owner).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        Mockito.verifyNoInteractions(jobRepository);
+
+        mockMvc.perform(put("/jobs/" + jobId).with(owner).contentType(MediaType.APPLICATION_JSON).content(UPDATE))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/jobs").with(owner).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].status").value("INTERVIEWING"));
+    }
+
+    @Test
+    void updateHonoursIfMatch() throws Exception {
+        String etag = mockMvc.perform(get("/jobs/" + jobId).with(owner))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(jsonPath("$.data.version").value(0))
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/jobs/" + jobId).with(owner).header("If-None-Match", "\"0\""))
+                .andExpect(status().isNotModified());
+
+        // a weak tag never satisfies If-Match
+        mockMvc.perform(put("/jobs/" + jobId).with(owner).header("If-Match", "W/" + etag)
+                        .contentType(MediaType.APPLICATION_JSON).content(UPDATE))
+                .andExpect(status().isPreconditionFailed());
+        // the tag from the GET goes back unchanged
+        mockMvc.perform(put("/jobs/" + jobId).with(owner).header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON).content(UPDATE))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""));
+
+        // a second editor still holding version 0 loses instead of overwriting
+        mockMvc.perform(put("/jobs/" + jobId).with(owner).header("If-Match", "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(UPDATE.replace("INTERVIEWING", "REJECTED")))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(get("/jobs/" + jobId).with(owner).header("If-None-Match", "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.data.status").value("INTERVIEWING"));
+    }
+}
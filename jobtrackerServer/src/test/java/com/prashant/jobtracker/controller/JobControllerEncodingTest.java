@@ -0,0 +1,127 @@
+package com.prashant.jobtracker.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.entity.User;
+import com.prashant.jobtracker.entity.enums.JobStatus;
+import com.prashant.jobtracker.repository.JobRepository;
+import com.prashant.jobtracker.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Through the embedded Tomcat, which does the compression: the same listing as gzipped JSON,
+ * CBOR and Smile, picked by the Accept headers.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class JobControllerEncodingTest {
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        client = HttpClient.newBuilder().cookieHandler(new CookieManager()).build();
+        String email = "encoding-" + UUID.randomUUID() + "@example.com";
+        post("/auth/signup", "{\"name\": \"encoding\", \"email\": \"" + email + "\", \"password\": \"secret\"}");
+        post("/auth/login", "{\"email\": \"" + email + "\", \"password\": \"secret\"}");
+
+        User user = userRepository.findByEmail(email).orElseThrow();
+        for (int i = 0; i < 10; i++) {
+            JobApplication job = new JobApplication();
+            job.setUser(user);
+            job.setCompanyName("Stripe");
+            job.setJobRole("Backend Engineer " + i);
+            job.setComment("Referred by a former colleague, first round with the payments platform team scheduled");
+            job.setStatus(JobStatus.APPLIED);
+            job.setAppliedDate(LocalDate.of(2025, 1, 1 + i));
+            jobRepository.save(job);
+        }
+    }
+
+    @Test
+    void jsonIsGzippedAndStillRevalidates() throws Exception {
+        HttpResponse<byte[]> response = get("application/json", "gzip", null);
+
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        assertThat(String.join(",", response.headers().allValues("Vary")).toLowerCase().split("\\s*,\\s*")).contains("accept");
+        JsonNode body = objectMapper.readTree(new GZIPInputStream(new ByteArrayInputStream(response.body())));
+        assertThat(body.get("data")).hasSize(10);
+
+        String etag = response.headers().firstValue("ETag").orElseThrow();
+        assertThat(etag).startsWith("W/");
+        assertThat(get("application/json", "gzip", etag).statusCode()).isEqualTo(304);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"application/cbor", "application/x-jackson-smile"})
+    void binaryEncodingsCarryTheSameResponse(String mediaType) throws Exception {
+        JsonNode json = objectMapper.readTree(get("application/json", null, null).body());
+
+        HttpResponse<byte[]> response = get(mediaType, "gzip", null);
+
+        assertThat(response.headers().firstValue("Content-Type")).hasValue(mediaType);
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(response.body().length).isLessThan(objectMapper.writeValueAsBytes(json).length);
+        ObjectMapper binary = objectMapper.copyWith(mediaType.endsWith("cbor") ? new CBORFactory() : new SmileFactory());
+        assertThat(binary.readTree(response.body()).get("data")).isEqualTo(json.get("data"));
+    }
+
+    @Test
+    void browsersStillGetJson() throws Exception {
+        assertThat(get("*/*", null, null).headers().firstValue("Content-Type")).hasValue("application/json");
+        assertThat(get("application/json, text/plain, */*", null, null).headers().firstValue("Content-Type"))
+                .hasValue("application/json");
+    }
+
+    private HttpResponse<byte[]> get(String accept, String acceptEncoding, String ifNoneMatch) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri("/jobs")).header("Accept", accept);
+        if (acceptEncoding != null)
+            request.header("Accept-Encoding", acceptEncoding);
+        if (ifNoneMatch != null)
+            request.header("If-None-Match", ifNoneMatch);
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private void post(String path, String json) throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).as(response.body()).isBetween(200, 299);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,135 @@
+package com.prashant.jobtracker.controller;
+
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.entity.User;
+import com.prashant.jobtracker.entity.enums.JobStatus;
+import com.prashant.jobtracker.repository.JobRepository;
+import com.prashant.jobtracker.repository.UserRepository;
+import com.prashant.jobtracker.service.JobStatsService;
+import com.prashant.jobtracker.support.StatementRecorder;
+import com.prashant.jobtracker.support.TestUsers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = StatementRecorder.PROPERTY)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JobControllerPatchTest {
+
+    private static final MediaType MERGE_PATCH = MediaType.parseMediaType("application/merge-patch+json");
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JobStatsService jobStatsService;
+
+    private RequestPostProcessor owner;
+    private Long jobId;
+
+    @BeforeEach
+    void setUp() {
+        User user = TestUsers.create(userRepository, "patch");
+        owner = TestUsers.login(user);
+
+        JobApplication job = new JobApplication();
+        job.setUser(user);
+        job.setCompanyName("Stripe");
+        job.setJobRole("Engineer");
+        job.setComment("referral");
+        job.setStatus(JobStatus.APPLIED);
+        job.setAppliedDate(LocalDate.of(2025, 1, 6));
+        jobId = jobRepository.save(job).getId();
+        // saved past the service, so the counters start from the table
+        jobStatsService.rebuild(user.getId());
+    }
+
+    @Test
+    void statusFlipIsOneNarrowReadAndOneUpdateOfTheChangedColumn() throws Exception {
+        StatementRecorder.clear();
+        patchJob("{\"status\": \"INTERVIEWING\"}")
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(content().string(""));
+
+        List<String> jobStatements = StatementRecorder.statementsOn("job_applications");
+        assertThat(jobStatements).hasSize(2);
+        assertThat(jobStatements.get(0)).startsWith("select").doesNotContain("join", "users");
+        assertThat(jobStatements.get(1)).startsWith("update").contains("status=", "version=")
+                .doesNotContain("company_name", "job_role", "comment", "applied_date");
+
+        mockMvc.perform(get("/jobs/" + jobId).with(owner))
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.data.status").value("INTERVIEWING"))
+                .andExpect(jsonPath("$.data.comment").value("referral"));
+        mockMvc.perform(get("/jobs/stats").with(owner))
+                .andExpect(jsonPath("$.data.byStatus.INTERVIEWING").value(1))
+                .andExpect(jsonPath("$.data.byStatus.APPLIED").doesNotExist());
+
+        // the same value again changes nothing and keeps the version
+        StatementRecorder.clear();
+        patchJob("{\"status\": \"INTERVIEWING\"}")
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("ETag", "\"1\""));
+        assertThat(StatementRecorder.statements()).noneMatch(sql -> sql.startsWith("update job_applications"));
+    }
+
+    @Test
+    void onlyTheSuppliedFieldsAreValidated() throws Exception {
+        // companyName, jobRole, status and appliedDate are required on PUT, not here; null removes the comment
+        patchJob("{\"comment\": null, \"companyName\": \"  ACME \"}")
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/jobs/company/acme").with(owner))
+                .andExpect(jsonPath("$.data[0].id").value(jobId))
+                .andExpect(jsonPath("$.data[0].comment").doesNotExist());
+
+        patchJob("{\"jobRole\": \"x\"}")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.message").value("Job role must be between 2 and 100 characters"));
+        patchJob("{\"status\": null}")
+                .andExpect(status().isBadRequest());
+        patchJob("{\"status\": \"HIRED\"}")
+                .andExpect(status().isBadRequest());
+        patchJob("{\"appliedDate\": \"2025-01-01\", \"version\": 0}")
+                .andExpect(status().isBadRequest());
+        patchJob("[{\"op\": \"replace\", \"path\": \"/status\", \"value\": \"OFFERED\"}]")
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(patch("/jobs/" + jobId).with(owner).header("If-Match", "\"0\"")
+                        .contentType(MERGE_PATCH).content("{\"status\": \"OFFERED\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        RequestPostProcessor stranger = TestUsers.login(TestUsers.create(userRepository, "stranger"));
+        mockMvc.perform(patch("/jobs/" + jobId).with(stranger).contentType(MERGE_PATCH).content("{\"status\": \"OFFERED\"}"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/jobs/" + jobId).with(owner))
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.data.status").value("APPLIED"));
+    }
+
+    private ResultActions patchJob(String body) throws Exception {
+        return mockMvc.perform(patch("/jobs/" + jobId).with(owner).contentType(MERGE_PATCH).content(body));
+    }
+}
@@ -0,0 +1,137 @@
+package com.prashant.jobtracker.controller;
+
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.entity.User;
+import com.prashant.jobtracker.entity.enums.JobStatus;
+import com.prashant.jobtracker.repository.JobCollectionVersionRepository;
+import com.prashant.jobtracker.repository.JobRepository;
+import com.prashant.jobtracker.repository.UserRepository;
+import com.prashant.jobtracker.support.StatementRecorder;
+import com.prashant.jobtracker.support.TestUsers;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = StatementRecorder.PROPERTY)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JobControllerReadCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JobCollectionVersionRepository versionRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long userId;
+    private RequestPostProcessor owner;
+    private Long jobId;
+    private Long otherJobId;
+
+    @BeforeEach
+    void setUp() {
+        User user = TestUsers.create(userRepository, "cache");
+        userId = user.getId();
+        owner = TestUsers.login(user);
+
+        jobId = saveJob(user, LocalDate.of(2025, 1, 6));
+        otherJobId = saveJob(user, LocalDate.of(2025, 1, 2));
+    }
+
+    @Test
+    void repeatedReadsOnlyQueryTheCollectionVersionUntilTheUserWrites() throws Exception {
+        double hitsBefore = hits();
+        mockMvc.perform(get("/jobs").with(owner)).andExpect(status().isOk());
+        mockMvc.perform(get("/jobs/" + jobId).with(owner)).andExpect(status().isOk());
+
+        StatementRecorder.clear();
+        String etag = mockMvc.perform(get("/jobs").with(owner))
+                .andExpect(jsonPath("$.data[0].status").value("APPLIED"))
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/jobs/" + jobId).with(owner))
+                .andExpect(jsonPath("$.data.status").value("APPLIED"));
+        mockMvc.perform(get("/jobs").with(owner).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        assertThat(StatementRecorder.statementsOn("job_applications")).isEmpty();
+        // one version read per request: the listing's cache key reuses the one behind its ETag
+        assertThat(StatementRecorder.statements()).hasSize(3).allMatch(sql -> sql.contains("job_collection_versions"));
+        assertThat(hits() - hitsBefore).isEqualTo(2);
+
+        mockMvc.perform(patch("/jobs/" + jobId).with(owner)
+                        .contentType(MediaType.parseMediaType("application/merge-patch+json"))
+                        .content("{\"status\": \"OFFERED\"}"))
+                .andExpect(status().isNoContent());
+
+        StatementRecorder.clear();
+        mockMvc.perform(get("/jobs").with(owner).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].status").value("OFFERED"));
+        mockMvc.perform(get("/jobs/" + jobId).with(owner))
+                .andExpect(jsonPath("$.data.status").value("OFFERED"));
+        assertThat(StatementRecorder.statementsOn("job_applications")).hasSize(2);
+    }
+
+    @Test
+    void aWriteOnAnotherNodeIsSeenByTheNextRead() throws Exception {
+        mockMvc.perform(get("/jobs").with(owner)).andExpect(jsonPath("$.data[0].status").value("APPLIED"));
+        mockMvc.perform(get("/jobs/" + jobId).with(owner)).andExpect(jsonPath("$.data.status").value("APPLIED"));
+
+        // what another node's patch leaves in the database; this node's cache is not told
+        transactionTemplate.executeWithoutResult(tx -> {
+            jdbcTemplate.update("update job_applications set status = 'OFFERED', version = version + 1 where id = ?", jobId);
+            versionRepository.bump(userId, Instant.now());
+        });
+
+        mockMvc.perform(get("/jobs").with(owner)).andExpect(jsonPath("$.data[0].status").value("OFFERED"));
+        mockMvc.perform(get("/jobs/" + jobId).with(owner)).andExpect(jsonPath("$.data.status").value("OFFERED"));
+    }
+
+    @Test
+    void cachedJobsAreOnlyVisibleToTheirOwner() throws Exception {
+        mockMvc.perform(get("/jobs/" + jobId).with(owner)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/jobs/" + jobId).with(TestUsers.login(TestUsers.create(userRepository, "other"))))
+                .andExpect(status().isNotFound());
+    }
+
+    private double hits() {
+        return meterRegistry.get("cache.gets").tags("cache", "jobReads", "result", "hit").functionCounter().count();
+    }
+
+    private Long saveJob(User user, LocalDate appliedDate) {
+        JobApplication job = new JobApplication();
+        job.setUser(user);
+        job.setCompanyName("Stripe");
+        job.setJobRole("Engineer");
+        job.setStatus(JobStatus.APPLIED);
+        job.setAppliedDate(appliedDate);
+        return jobRepository.save(job).getId();
+    }
+}
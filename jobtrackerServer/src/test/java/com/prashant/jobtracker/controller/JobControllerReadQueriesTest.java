@@ -0,0 +1,163 @@
+package com.prashant.jobtracker.controller;
+
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.entity.Resume;
+import com.prashant.jobtracker.entity.User;
+import com.prashant.jobtracker.entity.enums.JobStatus;
+import com.prashant.jobtracker.entity.enums.ResumeStatus;
+import com.prashant.jobtracker.repository.JobRepository;
+import com.prashant.jobtracker.repository.ResumeRepository;
+import com.prashant.jobtracker.repository.UserRepository;
+import com.prashant.jobtracker.support.StatementRecorder;
+import com.prashant.jobtracker.support.TestUsers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Every read endpoint answers from a single select on job_applications that neither joins nor
+ * separately loads the owning user, plus one select of the caller's collection version, which
+ * keys the read cache and, for listings, the ETag. Runs as shipped, with the read cache on, so
+ * the job query is counted on the first read and a cached repeat is the version select alone.
+ */
+@SpringBootTest(properties = StatementRecorder.PROPERTY)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JobControllerReadQueriesTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    private RequestPostProcessor owner;
+    private Long jobWithResume;
+    private Long resumeId;
+
+    @BeforeEach
+    void setUp() {
+        User user = TestUsers.create(userRepository, "reads");
+        owner = TestUsers.login(user);
+
+        Resume resume = new Resume();
+        resume.setUserId(user.getId());
+        resume.setLink("https://example.com/cv.pdf");
+        resume.setStatus(ResumeStatus.UPLOADED);
+        resume.setCreatedAt(LocalDateTime.now());
+        resumeId = resumeRepository.save(resume).getId();
+
+        for (int i = 0; i < 3; i++) {
+            JobApplication job = new JobApplication();
+            job.setUser(user);
+            job.setCompanyName("Stripe");
+            job.setJobRole("Backend Engineer " + i);
+            job.setStatus(JobStatus.APPLIED);
+            job.setAppliedDate(LocalDate.of(2025, 1, 6 + i));
+            if (i == 0) {
+                job.setResume(resume);
+                job.setResumeStatus(resume.getStatus());
+            }
+            Long id = jobRepository.save(job).getId();
+            if (i == 0)
+                jobWithResume = id;
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/jobs",
+            "/jobs?status=APPLIED",
+            "/jobs/between?from=2025-01-01&to=2025-01-31",
+            "/jobs/company/stripe",
+            "/jobs/search?status=APPLIED&company=str",
+            "/jobs/scroll?size=5",
+            "/jobs/{id}"
+    })
+    void readIsOneJobQueryAndOneVersionRead(String url) throws Exception {
+        StatementRecorder.clear();
+        mockMvc.perform(get(url.replace("{id}", String.valueOf(jobWithResume))).with(owner))
+                .andExpect(status().isOk());
+
+        assertOneJobQuery();
+        assertThat(StatementRecorder.statements()).hasSize(2);
+        assertThat(StatementRecorder.statementsOn("job_collection_versions")).hasSize(1);
+    }
+
+    // criteria searches and scrolling are not cached, their repeats cost the same as above
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/jobs",
+            "/jobs?status=APPLIED",
+            "/jobs/between?from=2025-01-01&to=2025-01-31",
+            "/jobs/company/stripe",
+            "/jobs/{id}"
+    })
+    void cachedRepeatOnlyReadsTheVersion(String url) throws Exception {
+        url = url.replace("{id}", String.valueOf(jobWithResume));
+        mockMvc.perform(get(url).with(owner)).andExpect(status().isOk());
+
+        StatementRecorder.clear();
+        mockMvc.perform(get(url).with(owner))
+                .andExpect(status().isOk());
+
+        assertThat(StatementRecorder.statements()).hasSize(1);
+        assertThat(StatementRecorder.statementsOn("job_collection_versions")).hasSize(1);
+    }
+
+    @Test
+    void textSearchIsOneQuery() throws Exception {
+        // the first text search builds the user's index from the table; only the searches after it are pinned.
+        // Text search skips the ETag and the read cache, its index reads the version itself
+        mockMvc.perform(get("/jobs/search?q=backend").with(owner)).andExpect(status().isOk());
+
+        StatementRecorder.clear();
+        mockMvc.perform(get("/jobs/search?q=backend").with(owner))
+                .andExpect(status().isOk());
+
+        assertOneJobQuery();
+        assertThat(StatementRecorder.statements()).hasSize(2);
+        assertThat(StatementRecorder.statementsOn("job_collection_versions")).hasSize(1);
+    }
+
+    @Test
+    void singleJobCarriesItsResume() throws Exception {
+        mockMvc.perform(get("/jobs/" + jobWithResume).with(owner))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.resumeId").value(resumeId))
+                .andExpect(jsonPath("$.data.resumeStatus").value("UPLOADED"));
+    }
+
+    @Test
+    void jobsWithoutResumeAreListed() throws Exception {
+        // j.resume.id must come from the foreign key, an inner join to resumes would drop these
+        mockMvc.perform(get("/jobs/company/stripe").with(owner))
+                .andExpect(jsonPath("$.data", hasSize(3)));
+    }
+
+    private static void assertOneJobQuery() {
+        List<String> jobQueries = StatementRecorder.statementsOn("job_applications");
+        assertThat(jobQueries).hasSize(1);
+        assertThat(jobQueries.get(0)).startsWith("select").doesNotContain(" join ", " users ");
+    }
+}
@@ -0,0 +1,117 @@
+package com.prashant.jobtracker.controller;
+
+import com.prashant.jobtracker.dto.ResumeDownload;
+import com.prashant.jobtracker.service.ResumeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ResumeControllerTest {
+
+    private static final String CONTENT = "%PDF-1.7 0123456789";
+    private static final String ETAG = "\"abc123\"";
+
+    private Path file;
+    private ResumeService resumeService;
+    private ResumeController controller;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = Files.createTempFile("resume-", ".pdf");
+        Files.writeString(file, CONTENT);
+        resumeService = mock(ResumeService.class);
+        controller = new ResumeController(resumeService);
+        when(resumeService.getDownload(1L)).thenReturn(new ResumeDownload("local:pdfs/x.pdf", file, ETAG, "cv.pdf"));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void servesWholeFileWithStrongEtag() throws Exception {
+        MockHttpServletResponse response = download(new MockHttpServletRequest("GET", "/resumes/1/download"));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("ETag")).isEqualTo(ETAG);
+        assertThat(response.getHeader("Accept-Ranges")).isEqualTo("bytes");
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void answersMatchingIfNoneMatchWithNotModified() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/resumes/1/download");
+        request.addHeader("If-None-Match", "\"other\", " + ETAG);
+
+        MockHttpServletResponse response = download(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void servesSingleByteRange() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/resumes/1/download");
+        request.addHeader("Range", "bytes=9-12");
+
+        MockHttpServletResponse response = download(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 9-12/" + CONTENT.length());
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("0123");
+    }
+
+    @Test
+    void ignoresRangeWhenIfRangeIsStale() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/resumes/1/download");
+        request.addHeader("Range", "bytes=0-3");
+        request.addHeader("If-Range", "\"stale\"");
+
+        MockHttpServletResponse response = download(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void rejectsUnsatisfiableRange() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/resumes/1/download");
+        request.addHeader("Range", "bytes=500-");
+
+        MockHttpServletResponse response = download(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */" + CONTENT.length());
+    }
+
+    @Test
+    void handsTheFileToTomcatWhenSendfileIsAvailable() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/resumes/1/download");
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader("Range", "bytes=-4");
+
+        MockHttpServletResponse response = download(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo((long) CONTENT.length() - 4);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo((long) CONTENT.length());
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    private MockHttpServletResponse download(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.download(1L, request, response);
+        return response;
+    }
+}
@@ -0,0 +1,103 @@
+package com.prashant.jobtracker.repository;
+
+import com.prashant.jobtracker.dto.JobApplicationDTO;
+import com.prashant.jobtracker.entity.User;
+import com.prashant.jobtracker.service.JobService;
+import com.prashant.jobtracker.support.StatementRecorder;
+import com.prashant.jobtracker.support.TestUsers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The per-user lookups against 2M applications of 400 users, 100 companies each: the SQL
+ * Hibernate actually issues is captured and EXPLAINed, so a change to the derived queries or
+ * the indexes that falls back to a scan fails here. File-backed, since the table alone would
+ * crowd the default test heap.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:file:./target/h2/index;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CACHE_SIZE=131072",
+        StatementRecorder.PROPERTY
+})
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class JobRepositoryIndexTest {
+
+    private static final int ROWS = 2_000_000;
+    private static final int USERS = 400;
+    private static final int COMPANIES = 100;
+
+    @Autowired
+    private JobService jobService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeAll
+    void load() {
+        jdbcTemplate.update("insert into users (name, email, password) "
+                + "select 'user', 'user-' || \"X\" || '@example.com', 'x' from system_range(1, ?)", USERS);
+        long firstUser = jdbcTemplate.queryForObject("select min(id) from users", Long.class);
+        // user by user, so each insert lands in the index pages of one user that are already cached
+        int perUser = ROWS / USERS;
+        String insert = ("insert into job_applications (company_name, company_norm, job_role, applied_date, user_id, status) "
+                + "select 'Company ' || mod(\"X\", %1$d), 'company ' || mod(\"X\", %1$d), 'Engineer', "
+                + "dateadd('DAY', -mod(\"X\", %2$d) / 5, date '2025-06-30'), %3$d + \"X\" / %2$d, 'APPLIED' "
+                + "from system_range(?, ?)").formatted(COMPANIES, perUser, firstUser);
+        for (int from = 0; from < ROWS; from += 200_000)
+            jdbcTemplate.update(insert, from, Math.min(from + 200_000, ROWS) - 1);
+        jdbcTemplate.execute("analyze");
+        user = userRepository.findById(firstUser).orElseThrow();
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void companyLookupSeeksTheUserCompanyIndex() {
+        TestUsers.loginAs(user);
+        StatementRecorder.clear();
+        List<JobApplicationDTO> page = jobService.getJobsByCompany("  COMPANY 7 ", 1, 10);
+
+        assertThat(page).hasSize(10)
+                .allMatch(job -> job.getCompanyName().equals("Company 7"))
+                .isSortedAccordingTo(Comparator.comparing(JobApplicationDTO::getAppliedDate).reversed());
+        assertThat(explainJobQuery()).contains("idx_job_user_company: user_id = ", "company_norm = ").doesNotContain("tableScan");
+    }
+
+    @Test
+    void dateRangeSeeksTheUserDateIndex() {
+        TestUsers.loginAs(user);
+        StatementRecorder.clear();
+        List<JobApplicationDTO> page = jobService.getJobsBetweenDates(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31), 0, 10);
+
+        assertThat(page).hasSize(10)
+                .allMatch(job -> job.getAppliedDate().getMonthValue() == 3);
+        assertThat(explainJobQuery()).contains("idx_job_user_applied: user_id = ", "applied_date >= ", "applied_date <= ").doesNotContain("tableScan");
+    }
+
+    // the lookup's own select; parameters stay unbound, which H2's EXPLAIN accepts
+    private String explainJobQuery() {
+        String sql = StatementRecorder.statementsOn("job_applications").stream()
+                .findFirst()
+                .orElseThrow();
+        return String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class));
+    }
+}
@@ -0,0 +1,31 @@
+package com.prashant.jobtracker.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the application on a database built only by db/migration, the way prod does, with
+ * Hibernate validating that every entity's tables and columns are there.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:migrated;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@ActiveProfiles("test")
+class MigratedSchemaTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migrationsProduceTheSchemaTheEntitiesExpect() {
+        assertThat(jdbcTemplate.queryForList("select version from flyway_schema_history where success", String.class))
+                .contains("1", "5.1", "6.1", "7");
+    }
+}
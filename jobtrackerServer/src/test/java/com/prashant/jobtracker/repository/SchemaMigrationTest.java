@@ -0,0 +1,76 @@
+package com.prashant.jobtracker.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The prod schema comes from db/migration, not from the entities. Data migrations are checked by
+ * migrating an empty MySQL-mode database up to the version before them, adding rows the way an
+ * older release would have, and applying the rest.
+ */
+class SchemaMigrationTest {
+
+    private final DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:migration-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    @Test
+    void statsAreSeededFromTheExistingJobs() {
+        migrateTo("5");
+        long userId = insertUser();
+        insertJob(userId, " Stripe ", "APPLIED", "2025-01-06");
+        insertJob(userId, "stripe", "INTERVIEWING", "2025-01-08");
+        insertJob(userId, "ACME", "APPLIED", "2025-01-13");
+        insertJob(userId, "Google  LLC", "REJECTED", "2025-01-20");
+
+        migrateTo("5.1");
+
+        assertThat(total(userId, "STATUS", "APPLIED")).isEqualTo(2);
+        assertThat(total(userId, "STATUS", "INTERVIEWING")).isEqualTo(1);
+        assertThat(total(userId, "COMPANY", "stripe")).isEqualTo(2);
+        assertThat(total(userId, "WEEK", "2025-01-06")).isEqualTo(2);
+        assertThat(total(userId, "WEEK", "2025-01-13")).isEqualTo(1);
+        // the company rule of that release, before inner whitespace was collapsed
+        assertThat(total(userId, "COMPANY", "google  llc")).isEqualTo(1);
+    }
+
+    @Test
+    void companyNormIsFilledOnTheExistingJobs() {
+        migrateTo("6");
+        long userId = insertUser();
+        insertJob(userId, " Google  LLC ", "APPLIED", "2025-01-06");
+        insertJob(userId, "ACME", "APPLIED", "2025-01-13");
+
+        migrateTo("6.2");
+
+        assertThat(jdbcTemplate.queryForList("select company_norm from job_applications where user_id = ? order by id",
+                String.class, userId)).containsExactly("google llc", "acme");
+    }
+
+    private void migrateTo(String version) {
+        Flyway.configure().dataSource(dataSource).target(version).load().migrate();
+    }
+
+    private long insertUser() {
+        jdbcTemplate.update("insert into users (name, email, password) values ('old', ?, 'x')", UUID.randomUUID() + "@example.com");
+        return jdbcTemplate.queryForObject("select max(id) from users", Long.class);
+    }
+
+    private void insertJob(long userId, String company, String status, String appliedDate) {
+        jdbcTemplate.update("insert into job_applications (user_id, company_name, job_role, status, applied_date) "
+                + "values (?, ?, 'Engineer', ?, ?)", userId, company, status, Date.valueOf(appliedDate));
+    }
+
+    private long total(long userId, String dimension, String bucket) {
+        return jdbcTemplate.queryForObject("select total from job_stats_counters where user_id = ? and dimension = ? and bucket = ?",
+                Long.class, userId, dimension, bucket);
+    }
+}
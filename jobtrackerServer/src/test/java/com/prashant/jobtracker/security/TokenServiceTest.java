@@ -0,0 +1,98 @@
+package com.prashant.jobtracker.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prashant.jobtracker.dto.TokenResponse;
+import com.prashant.jobtracker.exception.InvalidTokenException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// services built here share the context's database like nodes behind one balancer, each with its own deny list
+@SpringBootTest(properties = {"auth.mode=token", "auth.token.secret=" + TokenServiceTest.SECRET})
+@ActiveProfiles("test")
+class TokenServiceTest {
+
+    static final String SECRET = "AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA=";
+    private static final UserPrincipal USER = new UserPrincipal(42L, "jane@example.com", "Jane");
+
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Test
+    void accessTokenAuthenticatesWithoutLookup() {
+        TokenResponse tokens = tokenService(SECRET, Duration.ofMinutes(15)).issue(USER);
+
+        assertThat(tokenService(SECRET, Duration.ofMinutes(15)).authenticate(tokens.getAccessToken())).isEqualTo(USER);
+        assertThat(tokens.getExpiresIn()).isEqualTo(900);
+    }
+
+    @Test
+    void rejectsTamperedForeignExpiredAndMistypedTokens() {
+        TokenService tokenService = tokenService(SECRET, Duration.ofMinutes(15));
+        String access = tokenService.issue(USER).getAccessToken();
+        String tampered = access.substring(0, access.length() - 2) + (access.endsWith("A") ? "BB" : "AA");
+        byte[] otherKey = new byte[32];
+        Arrays.fill(otherKey, (byte) 7);
+        String foreign = tokenService(Base64.getEncoder().encodeToString(otherKey), Duration.ofMinutes(15))
+                .issue(USER).getAccessToken();
+        String expired = tokenService(SECRET, Duration.ofSeconds(-1)).issue(USER).getAccessToken();
+        String refresh = tokenService.issue(USER).getRefreshToken();
+
+        for (String token : new String[]{tampered, foreign, expired, refresh, "not.a.token"})
+            assertThatThrownBy(() -> tokenService.authenticate(token)).isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    void revokedTokensAreDeniedAndRefreshTokensAreSingleUse() {
+        TokenService tokenService = tokenService(SECRET, Duration.ofMinutes(15));
+        TokenResponse tokens = tokenService.issue(USER);
+
+        tokenService.revoke(tokens.getAccessToken());
+        assertThatThrownBy(() -> tokenService.authenticate(tokens.getAccessToken()))
+                .isInstanceOf(InvalidTokenException.class);
+
+        TokenResponse refreshed = tokenService.refresh(tokens.getRefreshToken());
+        assertThat(tokenService.authenticate(refreshed.getAccessToken())).isEqualTo(USER);
+        assertThatThrownBy(() -> tokenService.refresh(tokens.getRefreshToken()))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    void usedAndRevokedRefreshTokensFailOnEveryNode() {
+        TokenResponse tokens = tokenService(SECRET, Duration.ofMinutes(15)).issue(USER);
+        tokenService(SECRET, Duration.ofMinutes(15)).refresh(tokens.getRefreshToken());
+
+        // a node that never saw the first refresh
+        assertThatThrownBy(() -> tokenService(SECRET, Duration.ofMinutes(15)).refresh(tokens.getRefreshToken()))
+                .isInstanceOf(InvalidTokenException.class);
+
+        TokenResponse loggedOut = tokenService(SECRET, Duration.ofMinutes(15)).issue(USER);
+        tokenService(SECRET, Duration.ofMinutes(15)).revoke(loggedOut.getRefreshToken());
+        assertThatThrownBy(() -> tokenService(SECRET, Duration.ofMinutes(15)).refresh(loggedOut.getRefreshToken()))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    void replayingAUsedRefreshTokenRevokesTheRotatedOne() {
+        TokenService tokenService = tokenService(SECRET, Duration.ofMinutes(15));
+        TokenResponse stolen = tokenService.issue(USER);
+        TokenResponse rotated = tokenService.refresh(stolen.getRefreshToken());
+
+        assertThatThrownBy(() -> tokenService.refresh(stolen.getRefreshToken())).isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> tokenService.refresh(rotated.getRefreshToken())).isInstanceOf(InvalidTokenException.class);
+    }
+
+    private TokenService tokenService(String secret, Duration accessTtl) {
+        return new TokenService(secret, accessTtl, Duration.ofDays(7), objectMapper, new TokenDenyList(), refreshTokenStore);
+    }
+}
@@ -0,0 +1,136 @@
+package com.prashant.jobtracker.service.impl;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.Uploader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CloudinaryServiceImplTest {
+
+    private static final long FILE_SIZE = 8L * 1024 * 1024;
+    private static final int UPLOADS = 32;
+
+    private Path source;
+    private CloudinaryServiceImpl service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        source = Files.createTempFile("resume-", ".pdf");
+        try (RandomAccessFile raf = new RandomAccessFile(source.toFile(), "rw")) {
+            raf.setLength(FILE_SIZE);
+        }
+
+        Cloudinary cloudinary = mock(Cloudinary.class);
+        Uploader uploader = mock(Uploader.class);
+        when(cloudinary.uploader()).thenReturn(uploader);
+        // the SDK streams File arguments; anything else would mean the bytes were buffered
+        when(uploader.upload(any(File.class), anyMap())).thenAnswer(inv -> {
+            File file = inv.getArgument(0);
+            assertThat(file.length()).isEqualTo(FILE_SIZE);
+            return Map.of("secure_url", "https://storage.local/" + file.getName());
+        });
+
+        service = new CloudinaryServiceImpl(cloudinary, new InFlightBytesLimiter(4 * FILE_SIZE, 60_000));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(source);
+    }
+
+    @Test
+    void concurrentPdfUploadsDoNotBufferFilesOnTheHeap() throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        // first call pays for class loading and mock setup
+        service.uploadPdf(new DiskMultipartFile(source));
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Long>> allocations = new ArrayList<>();
+            for (int i = 0; i < UPLOADS; i++) {
+                allocations.add(pool.submit(() -> {
+                    long before = threads.getCurrentThreadAllocatedBytes();
+                    String link = service.uploadPdf(new DiskMultipartFile(source));
+                    assertThat(link).startsWith("https://storage.local/");
+                    return threads.getCurrentThreadAllocatedBytes() - before;
+                }));
+            }
+            for (Future<Long> allocated : allocations) {
+                // copying goes through a small fixed buffer, far below the 8 MB payload
+                assertThat(allocated.get()).isLessThan(FILE_SIZE / 8);
+            }
+        } finally {
+            pool.shutdown();
+            pool.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * A multipart file backed by a file on disk, like the container's spooled parts.
+     */
+    private record DiskMultipartFile(Path path) implements MultipartFile {
+
+        @Override
+        public String getName() {
+            return "resume";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return "resume.pdf";
+        }
+
+        @Override
+        public String getContentType() {
+            return "application/pdf";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getSize() == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return FILE_SIZE;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            throw new AssertionError("upload must not buffer the whole file");
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(path);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            transferTo(dest.toPath());
+        }
+    }
+}
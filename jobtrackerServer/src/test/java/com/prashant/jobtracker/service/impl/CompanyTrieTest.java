@@ -0,0 +1,84 @@
+package com.prashant.jobtracker.service.impl;
+
+import com.prashant.jobtracker.dto.CompanySuggestionDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompanyTrieTest {
+
+    @Test
+    void mergesSpellingsAndRanksByUse() {
+        CompanyTrie trie = loaded(2);
+        trie.put(1L, "Google", 1);
+        trie.put(2L, "google ", 2);
+        trie.put(3L, " Google", 3);
+        trie.put(4L, "Google  LLC", 4);
+        trie.put(5L, "Goldman Sachs", 5);
+        trie.put(6L, "Goldman Sachs", 6);
+
+        assertThat(trie.suggest("go", 10)).containsExactly(
+                new CompanySuggestionDTO("Google", 3),
+                new CompanySuggestionDTO("Goldman Sachs", 2));
+        assertThat(trie.suggest("GOOGLE L", 10)).containsExactly(new CompanySuggestionDTO("Google LLC", 1));
+        assertThat(trie.suggest("x", 10)).isEmpty();
+    }
+
+    @Test
+    void followsEditsAndDeletes() {
+        CompanyTrie trie = loaded(10);
+        trie.put(1L, "Stripe", 1);
+        trie.put(2L, "Stripe", 2);
+        trie.put(3L, "Spotify", 3);
+
+        trie.put(2L, "Spotify", 4);
+        trie.put(2L, "Spotify", 5);
+        assertThat(trie.suggest("s", 10)).containsExactly(
+                new CompanySuggestionDTO("Spotify", 2),
+                new CompanySuggestionDTO("Stripe", 1));
+
+        trie.remove(1L, 6);
+        trie.remove(1L, 7);
+        assertThat(trie.suggest("st", 10)).isEmpty();
+        assertThat(trie.suggest("", 10)).containsExactly(new CompanySuggestionDTO("Spotify", 2));
+    }
+
+    @Test
+    void initialScanDoesNotOverwriteWritesMadeWhileItRuns() {
+        CompanyTrie trie = new CompanyTrie(10);
+        trie.ensureLoaded(0, self -> {
+            self.load(1L, "Amazon");
+            self.put(2L, "Netflix", 1);
+            self.remove(3L, 2);
+            self.load(2L, "Uber");
+            self.load(3L, "Adobe");
+        });
+
+        assertThat(trie.suggest("", 10)).extracting(CompanySuggestionDTO::getName)
+                .containsExactly("Amazon", "Netflix");
+    }
+
+    @Test
+    void fallsBehindTheStoredVersionOnlyWhenAWriteWasMissed() {
+        CompanyTrie trie = new CompanyTrie(10);
+        trie.ensureLoaded(3, self -> self.load(1L, "Amazon"));
+
+        trie.put(1L, "Adobe", 3);
+        trie.put(2L, "Netflix", 4);
+        trie.skip(5);
+        assertThat(trie.isStale(5)).isFalse();
+        assertThat(trie.suggest("a", 10)).extracting(CompanySuggestionDTO::getName).containsExactly("Amazon");
+
+        trie.remove(2L, 7);
+        assertThat(trie.isStale(7)).isTrue();
+    }
+
+    private static CompanyTrie loaded(int k) {
+        CompanyTrie trie = new CompanyTrie(k);
+        trie.ensureLoaded(0, self -> {
+        });
+        return trie;
+    }
+}
@@ -0,0 +1,124 @@
+package com.prashant.jobtracker.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prashant.jobtracker.dto.JobApplicationDTO;
+import com.prashant.jobtracker.entity.User;
+import com.prashant.jobtracker.repository.UserRepository;
+import com.prashant.jobtracker.service.JobExportService;
+import com.prashant.jobtracker.support.TestUsers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs in the small-heap surefire execution (-Xmx128m) against a file-backed H2, so neither the
+ * database nor a materialized result could fit next to the application context.
+ */
+@Tag("small-heap")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:file:./target/h2/export;MODE=MySQL;DATABASE_TO_LOWER=TRUE;LAZY_QUERY_EXECUTION=TRUE")
+@ActiveProfiles("test")
+class JobExportServiceImplTest {
+
+    private static final int MILLION = 1_000_000;
+
+    @Autowired
+    private JobExportService jobExportService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void exportsAMillionRowsInConstantMemory() throws Exception {
+        User user = login();
+        // dates fall with the insert order, so the export walks the file-backed pages sequentially
+        for (int from = 1; from <= MILLION; from += 100_000) {
+            jdbcTemplate.update("insert into job_applications (company_name, job_role, applied_date, user_id, comment, status) "
+                    + "select 'Company ' || mod(\"X\", 1000), 'Engineer', dateadd('DAY', -\"X\" / 300, current_date), ?, "
+                    + "'Referred, follow up', 'APPLIED' from system_range(?, ?)", user.getId(), from, from + 99_999);
+        }
+
+        LineCounter out = new LineCounter();
+        jobExportService.exportJobs(JobImportServiceImpl.TEXT_CSV, out);
+
+        assertThat(out.lines).isEqualTo(MILLION + 1);
+    }
+
+    @Test
+    void writesOnlyTheCallersRowsNewestFirst() throws Exception {
+        login();
+        Long other = login().getId();
+        insert(other, "Stripe", LocalDate.of(2025, 1, 6), "Referred by \"Sam\",\nfollow up");
+        insert(other, "Google", LocalDate.of(2025, 2, 1), null);
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        jobExportService.exportJobs(JobImportServiceImpl.TEXT_CSV, csv);
+        assertThat(csv.toString(StandardCharsets.UTF_8)).matches(
+                "id,companyName,jobId,jobRole,status,appliedDate,comment,resumeUsed\r\n"
+                        + "\\d+,Google,,SDE II,APPLIED,2025-02-01,,\r\n"
+                        + "\\d+,Stripe,,SDE II,APPLIED,2025-01-06,\"Referred by \"\"Sam\"\",\nfollow up\",\r\n");
+
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        jobExportService.exportJobs(JobImportServiceImpl.APPLICATION_NDJSON, ndjson);
+        List<JobApplicationDTO> jobs = ndjson.toString(StandardCharsets.UTF_8).lines()
+                .map(line -> {
+                    try {
+                        return objectMapper.readValue(line, JobApplicationDTO.class);
+                    } catch (Exception e) {
+                        throw new AssertionError(e);
+                    }
+                })
+                .toList();
+        assertThat(jobs).extracting(JobApplicationDTO::getCompanyName).containsExactly("Google", "Stripe");
+        assertThat(jobs.get(1).getComment()).isEqualTo("Referred by \"Sam\",\nfollow up");
+    }
+
+    private User login() {
+        User user = TestUsers.create(userRepository, "export");
+        TestUsers.loginAs(user);
+        return user;
+    }
+
+    private void insert(Long userId, String company, LocalDate appliedDate, String comment) {
+        jdbcTemplate.update("insert into job_applications (company_name, job_role, applied_date, user_id, comment, status) "
+                + "values (?, 'SDE II', ?, ?, ?, 'APPLIED')", company, appliedDate, userId, comment);
+    }
+
+    // discards the bytes, so the test itself holds nothing per row
+    private static final class LineCounter extends OutputStream {
+        long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n')
+                lines++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++)
+                if (b[i] == '\n')
+                    lines++;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.prashant.jobtracker.service.impl;
+
+import com.prashant.jobtracker.dto.ImportResult;
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.entity.User;
+import com.prashant.jobtracker.entity.enums.JobStatus;
+import com.prashant.jobtracker.repository.JobRepository;
+import com.prashant.jobtracker.repository.UserRepository;
+import com.prashant.jobtracker.service.JobImportService;
+import com.prashant.jobtracker.service.JobStatsService;
+import com.prashant.jobtracker.support.TestUsers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "jobs.import.batch-size=2")
+@ActiveProfiles("test")
+class JobImportServiceImplTest {
+
+    @Autowired
+    private JobImportService jobImportService;
+    @Autowired
+    private JobStatsService jobStatsService;
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void login() {
+        user = TestUsers.create(userRepository, "import");
+        TestUsers.loginAs(user);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void importsValidCsvRowsAndReportsTheRest() {
+        String csv = """
+                Company Name,job_role,status,appliedDate,comment
+                Google,SDE II,applied,2025-01-06,"Referred, by ""Sam""
+                follow up in two weeks"
+                Amazon,Backend Engineer,REJECTED,2025-01-07,
+                ,Backend Engineer,APPLIED,2025-01-08,
+                Stripe,Platform Engineer,GHOSTED,2025-01-08,
+                Stripe,Platform Engineer,INTERVIEW,08/01/2025,
+
+                Netflix,Data Engineer,OFFERED,2025-01-09,
+                """;
+
+        ImportResult result = jobImportService.importJobs(body(csv), JobImportServiceImpl.TEXT_CSV);
+
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getRejected()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting(ImportResult.RowError::getRow).containsExactly(4L, 5L, 6L);
+
+        List<JobApplication> jobs = jobRepository.findAll().stream()
+                .filter(job -> job.getUser().getId().equals(user.getId()))
+                .toList();
+        assertThat(jobs).hasSize(3);
+        assertThat(jobs).anySatisfy(job -> {
+            assertThat(job.getComment()).isEqualTo("Referred, by \"Sam\"\nfollow up in two weeks");
+            assertThat(job.getAppliedDate()).isEqualTo(LocalDate.of(2025, 1, 6));
+        });
+        assertThat(jobStatsService.getStats().getTotal()).isEqualTo(3);
+    }
+
+    @Test
+    void malformedCsvRowsAreRejectedWithoutLosingCommittedBatches() {
+        String csv = "companyName,jobRole,status,appliedDate,comment\n"
+                + "Google,SDE II,APPLIED,2025-01-06,\n"
+                + "Amazon,SDE II,APPLIED,2025-01-07,\"" + "x".repeat(20_000) + "\"\n"
+                + "Stripe,SDE II,APPLIED,2025-01-08,\n"
+                + "Netflix,SDE II,APPLIED,2025-01-09,\n"
+                + "Uber,SDE II,APPLIED,2025-01-10,\"never closed\n";
+
+        ImportResult result = jobImportService.importJobs(body(csv), JobImportServiceImpl.TEXT_CSV);
+
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting(ImportResult.RowError::getRow).containsExactly(3L, 6L);
+        assertThat(result.getErrors()).extracting(ImportResult.RowError::getMessage)
+                .containsExactly("A field is longer than 10000 characters", "Unterminated quoted field");
+        assertThat(jobStatsService.getStats().getTotal()).isEqualTo(3);
+    }
+
+    @Test
+    void importsNdjsonAndKeepsStatsInStep() {
+        String ndjson = """
+                {"companyName":"Google","jobRole":"SDE II","status":"APPLIED","appliedDate":"2025-01-06"}
+                {"companyName":"Google","jobRole":"SDE II","status":"APPLIED"}
+                not json
+                {"companyName":"Amazon","jobRole":"Data Engineer","status":"REJECTED","appliedDate":"2025-01-07"}
+                """;
+
+        ImportResult result = jobImportService.importJobs(body(ndjson), JobImportServiceImpl.APPLICATION_NDJSON);
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(ImportResult.RowError::getRow).containsExactly(2L, 3L);
+        assertThat(jobStatsService.getStats().getByStatus())
+                .isEqualTo(Map.of(JobStatus.APPLIED, 1L, JobStatus.REJECTED, 1L));
+    }
+
+    private static ByteArrayInputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
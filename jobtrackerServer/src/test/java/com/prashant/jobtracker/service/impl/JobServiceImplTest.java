@@ -0,0 +1,186 @@
+package com.prashant.jobtracker.service.impl;
+
+import com.prashant.jobtracker.dto.BulkJobRequestDTO;
+import com.prashant.jobtracker.dto.CompanySuggestionDTO;
+import com.prashant.jobtracker.dto.JobApplicationDTO;
+import com.prashant.jobtracker.dto.JobSearchCriteria;
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.entity.User;
+import com.prashant.jobtracker.entity.enums.JobStatus;
+import com.prashant.jobtracker.exception.InvalidRequestException;
+import com.prashant.jobtracker.exception.ResourceNotFoundException;
+import com.prashant.jobtracker.repository.JobCollectionVersionRepository;
+import com.prashant.jobtracker.repository.JobRepository;
+import com.prashant.jobtracker.repository.UserRepository;
+import com.prashant.jobtracker.service.CompanySuggestionService;
+import com.prashant.jobtracker.service.JobService;
+import com.prashant.jobtracker.service.JobStatsService;
+import com.prashant.jobtracker.service.JobTextSearchService;
+import com.prashant.jobtracker.support.TestUsers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JobServiceImplTest {
+
+    @Autowired
+    private JobService jobService;
+    @Autowired
+    private JobStatsService jobStatsService;
+    @Autowired
+    private CompanySuggestionService companySuggestionService;
+    @Autowired
+    private JobTextSearchService jobTextSearchService;
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JobCollectionVersionRepository versionRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void bulkWritesOnlyTouchTheCallersJobs() {
+        User other = loginAsNewUser();
+        jobService.addJob(job("Google", JobStatus.APPLIED, LocalDate.of(2025, 1, 6)), null);
+        Long othersJob = idsOf(other).get(0);
+
+        User user = loginAsNewUser();
+        jobService.addJob(job("Google", JobStatus.APPLIED, LocalDate.of(2025, 1, 6)), null);
+        jobService.addJob(job("Amazon", JobStatus.APPLIED, LocalDate.of(2025, 1, 7)), null);
+        jobService.addJob(job("Stripe", JobStatus.INTERVIEWING, LocalDate.of(2025, 3, 1)), null);
+        List<Long> mine = idsOf(user);
+
+        BulkJobRequestDTO reject = new BulkJobRequestDTO();
+        JobSearchCriteria stale = new JobSearchCriteria();
+        stale.setStatus(Set.of(JobStatus.APPLIED));
+        stale.setTo(LocalDate.of(2025, 2, 1));
+        reject.setFilter(stale);
+        reject.setStatus(JobStatus.REJECTED);
+        assertThat(jobService.updateStatuses(reject).getAffected()).isEqualTo(2);
+        assertThat(jobStatsService.getStats().getByStatus())
+                .isEqualTo(Map.of(JobStatus.REJECTED, 2L, JobStatus.INTERVIEWING, 1L));
+
+        BulkJobRequestDTO delete = new BulkJobRequestDTO();
+        delete.setIds(List.of(mine.get(0), mine.get(1), othersJob));
+        assertThat(jobService.deleteJobs(delete).getAffected()).isEqualTo(2);
+        assertThat(idsOf(user)).containsExactly(mine.get(2));
+        assertThat(jobRepository.existsById(othersJob)).isTrue();
+        assertThat(jobStatsService.getStats().getTotal()).isEqualTo(1);
+
+        BulkJobRequestDTO everything = new BulkJobRequestDTO();
+        everything.setFilter(new JobSearchCriteria());
+        assertThatThrownBy(() -> jobService.deleteJobs(everything)).isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void deleteOfAnotherUsersJobIsNotFound() {
+        User other = loginAsNewUser();
+        jobService.addJob(job("Google", JobStatus.APPLIED, LocalDate.of(2025, 1, 6)), null);
+        Long othersJob = idsOf(other).get(0);
+
+        loginAsNewUser();
+        assertThatThrownBy(() -> jobService.deleteJob(othersJob)).isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(jobRepository.existsById(othersJob)).isTrue();
+        TestUsers.loginAs(other);
+        assertThat(jobStatsService.getStats().getTotal()).isEqualTo(1);
+        assertThat(jobService.getJobsByCompany("google", 0, 10)).hasSize(1);
+    }
+
+    @Test
+    void companyLookupIsScopedToTheCallerAndIgnoresCaseAndPadding() {
+        loginAsNewUser();
+        jobService.addJob(job("Google", JobStatus.APPLIED, LocalDate.of(2025, 1, 9)), null);
+
+        loginAsNewUser();
+        jobService.addJob(job("Google", JobStatus.APPLIED, LocalDate.of(2025, 1, 6)), null);
+        jobService.addJob(job(" google ", JobStatus.APPLIED, LocalDate.of(2025, 1, 8)), null);
+        jobService.addJob(job("Amazon", JobStatus.APPLIED, LocalDate.of(2025, 1, 7)), null);
+
+        assertThat(jobService.getJobsByCompany("GOOGLE", 0, 10))
+                .extracting(JobApplicationDTO::getAppliedDate)
+                .containsExactly(LocalDate.of(2025, 1, 8), LocalDate.of(2025, 1, 6));
+        assertThat(jobService.getJobsByCompany("google", 1, 1))
+                .extracting(JobApplicationDTO::getAppliedDate)
+                .containsExactly(LocalDate.of(2025, 1, 6));
+        assertThat(jobService.getJobsBetweenDates(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31), 0, 10)).hasSize(3);
+    }
+
+    @Test
+    void companyLookupCollapsesInnerWhitespaceLikeTheSuggestions() {
+        loginAsNewUser();
+        jobService.addJob(job("Google  LLC", JobStatus.APPLIED, LocalDate.of(2025, 1, 6)), null);
+
+        assertThat(jobService.getJobsByCompany("google llc", 0, 10)).hasSize(1);
+        assertThat(companySuggestionService.suggest("google l", 10))
+                .containsExactly(new CompanySuggestionDTO("Google LLC", 1));
+    }
+
+    @Test
+    void searchAndSuggestionsSeeWritesCommittedByAnotherNode() {
+        User user = loginAsNewUser();
+        jobService.addJob(job("Google", JobStatus.APPLIED, LocalDate.of(2025, 1, 6)), null);
+        Long jobId = idsOf(user).get(0);
+        assertThat(jobTextSearchService.search("google", 10)).hasSize(1);
+        assertThat(companySuggestionService.suggest("g", 10)).hasSize(1);
+
+        // what another node's edit leaves behind: the row and the version, but no hook on this node
+        transactionTemplate.executeWithoutResult(tx -> {
+            jdbcTemplate.update("update job_applications set company_name = 'Stripe', company_norm = 'stripe' where id = ?", jobId);
+            versionRepository.bump(user.getId(), Instant.now());
+        });
+
+        assertThat(jobTextSearchService.search("google", 10)).isEmpty();
+        assertThat(jobTextSearchService.search("stripe", 10)).extracting(JobApplicationDTO::getId).containsExactly(jobId);
+        assertThat(companySuggestionService.suggest("g", 10)).isEmpty();
+        assertThat(companySuggestionService.suggest("s", 10)).containsExactly(new CompanySuggestionDTO("Stripe", 1));
+    }
+
+    private List<Long> idsOf(User user) {
+        return jobRepository.findAll().stream()
+                .filter(job -> job.getUser().getId().equals(user.getId()))
+                .map(JobApplication::getId)
+                .sorted()
+                .toList();
+    }
+
+    private User loginAsNewUser() {
+        User user = TestUsers.create(userRepository, "bulk");
+        TestUsers.loginAs(user);
+        return user;
+    }
+
+    private static JobApplicationDTO job(String company, JobStatus status, LocalDate appliedDate) {
+        JobApplicationDTO dto = new JobApplicationDTO();
+        dto.setCompanyName(company);
+        dto.setJobRole("Engineer");
+        dto.setStatus(status);
+        dto.setAppliedDate(appliedDate);
+        return dto;
+    }
+}
@@ -0,0 +1,158 @@
+package com.prashant.jobtracker.service.impl;
+
+import com.prashant.jobtracker.dto.BulkJobRequestDTO;
+import com.prashant.jobtracker.dto.JobApplicationDTO;
+import com.prashant.jobtracker.dto.JobStatsDTO;
+import com.prashant.jobtracker.entity.JobApplication;
+import com.prashant.jobtracker.entity.JobStatsCounter;
+import com.prashant.jobtracker.entity.User;
+import com.prashant.jobtracker.entity.enums.JobStatus;
+import com.prashant.jobtracker.repository.JobRepository;
+import com.prashant.jobtracker.repository.UserRepository;
+import com.prashant.jobtracker.service.JobService;
+import com.prashant.jobtracker.service.JobStatsService;
+import com.prashant.jobtracker.support.TestUsers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JobStatsServiceImplTest {
+
+    private static final String[] COMPANIES = {"Google", "google ", "Amazon", "Stripe"};
+    private static final int THREADS = 8;
+    private static final int OPERATIONS = 40;
+
+    @Autowired
+    private JobService jobService;
+    @Autowired
+    private JobStatsService jobStatsService;
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void countersMatchJobTableAfterConcurrentWrites() throws Exception {
+        User user = TestUsers.create(userRepository, "stats");
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                String role = "Engineer " + t;
+                workers.add(pool.submit(() -> runWorkload(user, role)));
+            }
+            for (Future<?> worker : workers)
+                worker.get(2, TimeUnit.MINUTES);
+        } finally {
+            pool.shutdown();
+        }
+
+        TestUsers.loginAs(user);
+        JobStatsDTO incremental = jobStatsService.getStats();
+        assertThat(incremental).isEqualTo(expectedFromJobTable(user));
+
+        jobStatsService.rebuild(user.getId());
+        assertThat(jobStatsService.getStats()).isEqualTo(incremental);
+    }
+
+    private void runWorkload(User user, String role) {
+        TestUsers.loginAs(user);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Long> mine = new ArrayList<>();
+
+        for (int i = 0; i < OPERATIONS; i++) {
+            int op = random.nextInt(12);
+            if (mine.isEmpty() || op < 5) {
+                jobService.addJob(randomJob(random, role), null);
+                // addJob does not return the id; each worker tags its rows with its own role
+                mine.add(newestId(user, role, mine));
+            } else if (op < 8) {
+                Long id = mine.get(random.nextInt(mine.size()));
+                jobService.updateJob(id, randomJob(random, role), null);
+            } else if (op < 10) {
+                Long id = mine.remove(random.nextInt(mine.size()));
+                jobService.deleteJob(id);
+            } else if (op < 11) {
+                BulkJobRequestDTO request = new BulkJobRequestDTO();
+                request.setIds(randomSubset(random, mine));
+                request.setStatus(JobStatus.values()[random.nextInt(JobStatus.values().length)]);
+                jobService.updateStatuses(request);
+            } else {
+                List<Long> ids = randomSubset(random, mine);
+                mine.removeAll(ids);
+                BulkJobRequestDTO request = new BulkJobRequestDTO();
+                request.setIds(ids);
+                jobService.deleteJobs(request);
+            }
+        }
+    }
+
+    private static List<Long> randomSubset(Random random, List<Long> ids) {
+        List<Long> subset = new ArrayList<>(ids);
+        Collections.shuffle(subset, random);
+        return new ArrayList<>(subset.subList(0, 1 + random.nextInt(Math.min(subset.size(), 5))));
+    }
+
+    private Long newestId(User user, String role, List<Long> known) {
+        return jobsOf(user).stream()
+                .filter(job -> job.getJobRole().equals(role))
+                .map(JobApplication::getId)
+                .filter(id -> !known.contains(id))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private List<JobApplication> jobsOf(User user) {
+        return jobRepository.findAll().stream()
+                .filter(job -> job.getUser().getId().equals(user.getId()))
+                .toList();
+    }
+
+    private JobStatsDTO expectedFromJobTable(User user) {
+        Map<JobStatus, Long> byStatus = new EnumMap<>(JobStatus.class);
+        Map<String, Long> byWeek = new TreeMap<>();
+        Map<String, Long> byCompany = new TreeMap<>();
+        List<JobApplication> jobs = jobsOf(user);
+        for (JobApplication job : jobs) {
+            byStatus.merge(job.getStatus(), 1L, Long::sum);
+            byWeek.merge(JobStatsCounter.weekBucket(job.getAppliedDate()), 1L, Long::sum);
+            byCompany.merge(JobStatsCounter.companyBucket(job.getCompanyName()), 1L, Long::sum);
+        }
+        return JobStatsDTO.builder()
+                .total(jobs.size())
+                .byStatus(byStatus)
+                .byWeek(byWeek)
+                .byCompany(byCompany)
+                .build();
+    }
+
+    private static JobApplicationDTO randomJob(Random random, String role) {
+        JobApplicationDTO dto = new JobApplicationDTO();
+        dto.setCompanyName(COMPANIES[random.nextInt(COMPANIES.length)]);
+        dto.setJobRole(role);
+        dto.setStatus(JobStatus.values()[random.nextInt(JobStatus.values().length)]);
+        dto.setAppliedDate(LocalDate.of(2025, 1, 1).plusDays(random.nextInt(60)));
+        return dto;
+    }
+}
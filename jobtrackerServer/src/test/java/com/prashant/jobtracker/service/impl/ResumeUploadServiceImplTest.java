@@ -0,0 +1,31 @@
+package com.prashant.jobtracker.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResumeUploadServiceImplTest {
+
+    @Test
+    void spoolDirectoryMustBeConfiguredAndOutsideTmp() {
+        assertThatThrownBy(() -> create(""))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("resume.upload.spool-dir");
+        assertThatThrownBy(() -> create(System.getProperty("java.io.tmpdir") + "/jobtracker/resume-spool"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("java.io.tmpdir");
+
+        create("target/spool-check");
+        assertThat(Files.isDirectory(Path.of("target/spool-check"))).isTrue();
+    }
+
+    private static ResumeUploadServiceImpl create(String spoolDir) {
+        return new ResumeUploadServiceImpl(null, null, null, null, null, null, null,
+                spoolDir, 5, 10, "local", new SimpleMeterRegistry());
+    }
+}
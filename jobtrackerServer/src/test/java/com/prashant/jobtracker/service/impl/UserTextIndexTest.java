@@ -0,0 +1,73 @@
+package com.prashant.jobtracker.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserTextIndexTest {
+
+    @Test
+    void matchesEveryTokenAsAPrefixAndRanksCompanyAboveComment() {
+        UserTextIndex index = loaded();
+        index.put(1L, "Google", "Backend Engineer", null, 1);
+        index.put(2L, "Stripe", "Frontend Engineer", "asked about google's backend stack", 2);
+        index.put(3L, "Amazon", "Backend Engineer", "Referred by Sam", 3);
+        index.put(4L, "Société Générale", "Data Engineer", null, 4);
+
+        assertThat(index.search(UserTextIndex.tokenize("back goo"), 10)).containsExactly(1L, 2L);
+        assertThat(index.search(UserTextIndex.tokenize("BACKEND"), 10)).containsExactly(3L, 1L, 2L);
+        assertThat(index.search(UserTextIndex.tokenize("societe"), 10)).containsExactly(4L);
+        assertThat(index.search(UserTextIndex.tokenize("engineer"), 2)).hasSize(2);
+        // one-letter tokens only match whole words
+        assertThat(index.search(UserTextIndex.tokenize("s"), 10)).containsExactly(2L);
+    }
+
+    @Test
+    void initialScanDoesNotOverwriteWritesMadeWhileItRuns() {
+        UserTextIndex index = new UserTextIndex();
+        index.ensureLoaded(0, self -> {
+            self.load(1L, "Google", "SDE II", null);
+            // committed while the scan is still running: an edit of 2 and a delete of 3
+            self.put(2L, "Stripe", "Platform Engineer", null, 1);
+            self.remove(3L, 2);
+            self.load(2L, "Stripe", "Intern", null);
+            self.load(3L, "Amazon", "SDE II", null);
+        });
+
+        assertThat(index.search(UserTextIndex.tokenize("sde"), 10)).containsExactly(1L);
+        assertThat(index.search(UserTextIndex.tokenize("platform"), 10)).containsExactly(2L);
+        assertThat(index.search(UserTextIndex.tokenize("intern"), 10)).isEmpty();
+
+        index.remove(1L, 3);
+        assertThat(index.search(UserTextIndex.tokenize("google"), 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void fallsBehindTheStoredVersionOnlyWhenAWriteWasMissed() {
+        UserTextIndex index = new UserTextIndex();
+        index.ensureLoaded(5, self -> self.load(1L, "Google", "SDE II", null));
+
+        // a hook for a write the scan already saw changes nothing
+        index.put(1L, "Google", "Intern", null, 5);
+        assertThat(index.search(UserTextIndex.tokenize("intern"), 10)).isEmpty();
+
+        index.put(1L, "Google", "Staff Engineer", null, 6);
+        index.skip(7);
+        assertThat(index.isStale(7)).isFalse();
+        assertThat(index.search(UserTextIndex.tokenize("staff"), 10)).containsExactly(1L);
+
+        // version 8 was written elsewhere
+        index.put(2L, "Stripe", "SDE II", null, 9);
+        assertThat(index.isStale(9)).isTrue();
+    }
+
+    private static UserTextIndex loaded() {
+        UserTextIndex index = new UserTextIndex();
+        index.ensureLoaded(0, self -> {
+        });
+        return index;
+    }
+}
@@ -0,0 +1,40 @@
+package com.prashant.jobtracker.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the SQL Hibernate sends from the current thread, which under MockMvc is everything one
+ * request issues; background workers and other tests do not show up. Enable it with
+ * {@code @SpringBootTest(properties = StatementRecorder.PROPERTY)}.
+ */
+public class StatementRecorder implements StatementInspector {
+
+    public static final String PROPERTY =
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.prashant.jobtracker.support.StatementRecorder";
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    public static void clear() {
+        STATEMENTS.get().clear();
+    }
+
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS.get());
+    }
+
+    // the statements reading or writing the given table
+    public static List<String> statementsOn(String table) {
+        return STATEMENTS.get().stream()
+                .filter(sql -> sql.contains(" " + table + " ") || sql.endsWith(" " + table))
+                .toList();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+}
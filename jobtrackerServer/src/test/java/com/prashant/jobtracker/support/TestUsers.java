@@ -0,0 +1,46 @@
+package com.prashant.jobtracker.support;
+
+import com.prashant.jobtracker.entity.User;
+import com.prashant.jobtracker.repository.UserRepository;
+import com.prashant.jobtracker.security.UserPrincipal;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+
+/**
+ * Saved users to own the jobs a test writes, each with its own email so tests sharing the
+ * context's database never see each other's rows. Service tests log in on the current thread,
+ * MockMvc tests per request.
+ */
+public final class TestUsers {
+
+    private TestUsers() {
+    }
+
+    public static User create(UserRepository userRepository, String name) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name + "-" + UUID.randomUUID() + "@example.com");
+        user.setPassword("x");
+        return userRepository.save(user);
+    }
+
+    // what the services read the logged-in user from; tests clear it after each run
+    public static void loginAs(User user) {
+        SecurityContextHolder.getContext().setAuthentication(authenticationOf(user));
+    }
+
+    public static RequestPostProcessor login(User user) {
+        return authentication(authenticationOf(user));
+    }
+
+    private static Authentication authenticationOf(User user) {
+        return new UsernamePasswordAuthenticationToken(UserPrincipal.from(user), null, List.of());
+    }
+}
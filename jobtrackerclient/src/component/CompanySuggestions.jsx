@@ -0,0 +1,31 @@
+import React, { useState, useEffect } from 'react';
+import { suggestCompanies } from '../service/apiService';
+import { useDebounce } from '../hooks/useDebounce';
+
+// <datalist> of the user's own company names starting with `prefix`; inputs opt in with list={id}
+const CompanySuggestions = ({ id, prefix }) => {
+  const [names, setNames] = useState([]);
+  const debouncedPrefix = useDebounce(prefix.trim(), 150);
+
+  useEffect(() => {
+    if (!debouncedPrefix) {
+      setNames([]);
+      return;
+    }
+    let stale = false;
+    suggestCompanies(debouncedPrefix)
+      .then(suggestions => !stale && setNames(suggestions.map(s => s.name)))
+      .catch(() => !stale && setNames([]));
+    return () => {
+      stale = true;
+    };
+  }, [debouncedPrefix]);
+
+  return (
+    <datalist id={id}>
+      {names.map(name => <option key={name} value={name} />)}
+    </datalist>
+  );
+};
+
+export default CompanySuggestions;
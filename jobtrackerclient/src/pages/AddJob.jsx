@@ -3,6 +3,7 @@ import { useNavigate } from 'react-router-dom';
 import { Container, Row, Col, Card, Form, Button, Alert, Spinner } from 'react-bootstrap';
 import { addJob } from '../service/apiService';
 import { toast } from 'react-toastify';
+import CompanySuggestions from '../component/CompanySuggestions';
 
 const AddJob = () => {
     const navigate = useNavigate();
@@ -125,8 +126,11 @@ const AddJob = () => {
                                                 value={formData.companyName}
                                                 onChange={handleChange}
                                                 placeholder="e.g. Google"
+                                                list="company-suggestions"
+                                                autoComplete="off"
                                                 required
                                             />
+                                            <CompanySuggestions id="company-suggestions" prefix={formData.companyName} />
                                         </Form.Group>
                                     </Col>
                                 </Row>
@@ -1,8 +1,9 @@
 import React, { useState, useEffect } from 'react';
 import { useNavigate, useParams } from 'react-router-dom';
 import { Container, Row, Col, Card, Form, Button, Alert, Spinner } from 'react-bootstrap';
-import { getJobById, updateJob } from '../service/apiService';
+import { getJobById, patchJob } from '../service/apiService';
 import { toast } from 'react-toastify';
+import CompanySuggestions from '../component/CompanySuggestions';
 
 const EditJob = () => {
     const navigate = useNavigate();
@@ -11,6 +12,10 @@ const EditJob = () => {
     const [fetchLoading, setFetchLoading] = useState(true);
     const [error, setError] = useState(null);
     const [errorList, setErrorList] = useState([]);
+    // version the form was loaded at, sent back as If-Match
+    const [version, setVersion] = useState(null);
+    // values as loaded; only the fields that differ are sent
+    const [original, setOriginal] = useState(null);
 
     const [formData, setFormData] = useState({
         jobId: '',
@@ -31,14 +36,17 @@ const EditJob = () => {
                 const formattedDate = job.appliedDate ? 
                     new Date(job.appliedDate).toISOString().split('T')[0] : '';
 
-                setFormData({
+                const loaded = {
                     jobId: job.jobId || '',
                     jobRole: job.jobRole || '',
                     companyName: job.companyName || '',
                     comment: job.comment || '',
                     appliedDate: formattedDate,
                     status: job.status || 'APPLIED'
-                });
+                };
+                setFormData(loaded);
+                setOriginal(loaded);
+                setVersion(job.version ?? null);
             } catch (err) {
                 setError('Failed to fetch job details');
                 console.error('Error fetching job:', err);
@@ -67,7 +75,15 @@ const EditJob = () => {
         setErrorList([]);
 
         try {
-            await updateJob(id, formData);
+            const changes = {};
+            for (const field of ['companyName', 'jobRole', 'comment', 'status']) {
+                if (formData[field] !== original[field]) {
+                    changes[field] = field === 'comment' && formData.comment === '' ? null : formData[field];
+                }
+            }
+            if (Object.keys(changes).length > 0) {
+                await patchJob(id, changes, version);
+            }
             toast.success('Job application updated successfully!');
             navigate('/jobs');
         } catch (err) {
@@ -139,8 +155,11 @@ const EditJob = () => {
                                                 value={formData.companyName}
                                                 onChange={handleChange}
                                                 placeholder="e.g. Google"
+                                                list="company-suggestions"
+                                                autoComplete="off"
                                                 required
                                             />
+                                            <CompanySuggestions id="company-suggestions" prefix={formData.companyName} />
                                         </Form.Group>
                                     </Col>
                                 </Row>
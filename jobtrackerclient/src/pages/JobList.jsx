@@ -8,9 +8,10 @@ import {
     FaEdit, FaTrash, FaPlus, FaFilter, FaEye, FaSearch, 
     FaBuilding, FaCalendarAlt, FaFileAlt, FaTimes 
 } from 'react-icons/fa';
-import { getAllJobs, deleteJob, getJobById } from '../service/apiService';
+import { getAllJobs, deleteJob, getJobById, resumeDownloadUrl } from '../service/apiService';
 import { toast } from 'react-toastify';
 import { useDebounce } from '../hooks/useDebounce';
+import CompanySuggestions from '../component/CompanySuggestions';
 
 const JobList = () => {
     const navigate = useNavigate();
@@ -273,6 +274,8 @@ const JobList = () => {
 
     return (
         <Container fluid className="px-3 px-md-4">
+            {/* shared by the sidebar and offcanvas company filters */}
+            <CompanySuggestions id="company-suggestions" prefix={searchForm.company} />
             {/* Header */}
             <Row className="mb-4">
                 <Col>
@@ -406,6 +409,8 @@ const JobList = () => {
                                         onChange={handleFilterChange}
                                         onKeyPress={handleKeyPress}
                                         placeholder="Search company..."
+                                        list="company-suggestions"
+                                        autoComplete="off"
                                     />
                                 </Form.Group>
 
@@ -613,6 +618,8 @@ const JobList = () => {
                                 onChange={handleFilterChange}
                                 onKeyPress={handleKeyPress}
                                 placeholder="Search company..."
+                                list="company-suggestions"
+                                autoComplete="off"
                             />
                         </Form.Group>
 
@@ -710,7 +717,13 @@ const JobList = () => {
                                 {selectedJob.resumeUsed && (
                                     <Col md={6}>
                                         <strong>Resume Used:</strong>
-                                        <p className="mb-0">{selectedJob.resumeUsed}</p>
+                                        <p className="mb-0">
+                                            {selectedJob.resumeId ? (
+                                                <a href={resumeDownloadUrl(selectedJob.resumeId)} target="_blank" rel="noopener noreferrer">
+                                                    View resume
+                                                </a>
+                                            ) : selectedJob.resumeUsed}
+                                        </p>
                                     </Col>
                                 )}
                             </Row>
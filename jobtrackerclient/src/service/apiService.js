@@ -3,9 +3,9 @@ const API_URL = import.meta.env.VITE_API_URL || 'http://localhost:8080';
 export async function apiRequest(path, options = {}) {
   const url = `${API_URL}${path}`;
   const resp = await fetch(url, {
-    headers: { "Content-Type": "application/json", ...(options.headers || {}) },
     credentials: 'include', // Include cookies for session-based auth
     ...options,
+    headers: { "Content-Type": "application/json", ...(options.headers || {}) },
   });
 
   // Check for session expiry (401 Unauthorized)
@@ -139,80 +139,41 @@ export const getAllJobs = async (page = 0, filters = {}) => {
     return apiRequest(`/jobs?page=${page}`);
   }
   
-  // Handle different filter combinations based on your backend endpoints
-  if (filters.status && !filters.company && !filters.dateFrom && !filters.dateTo) {
-    // Only status filter - use the status endpoint
-    return apiRequest(`/jobs?status=${filters.status}&page=${page}`);
-  }
-  
-  if (filters.company && !filters.status && !filters.dateFrom && !filters.dateTo) {
-    // Only company filter - use the company endpoint
-    return apiRequest(`/jobs/company/${encodeURIComponent(filters.company)}?page=${page}`);
-  }
-  
-  if ((filters.dateFrom || filters.dateTo) && !filters.status && !filters.company) {
-    // Only date range filter - use the between endpoint
-    const from = filters.dateFrom || '1900-01-01';
-    const to = filters.dateTo || '2100-12-31';
-    return apiRequest(`/jobs/between?from=${from}&to=${to}&page=${page}`);
-  }
-  
-  // For multiple filters, we'll need to get all jobs and filter client-side
-  // This is a limitation of the current backend API structure
-  const allJobs = await apiRequest(`/jobs?page=0`); // Get all jobs first
-  
-  let filteredJobs = Array.isArray(allJobs) ? allJobs : (allJobs?.content || []);
-  
-  // Apply client-side filtering
-  if (filters.status) {
-    filteredJobs = filteredJobs.filter(job => job.status === filters.status);
-  }
-  
-  if (filters.company) {
-    filteredJobs = filteredJobs.filter(job => 
-      job.companyName.toLowerCase().includes(filters.company.toLowerCase())
-    );
-  }
-  
-  if (filters.dateFrom) {
-    filteredJobs = filteredJobs.filter(job => 
-      new Date(job.appliedDate) >= new Date(filters.dateFrom)
-    );
-  }
-  
-  if (filters.dateTo) {
-    filteredJobs = filteredJobs.filter(job => 
-      new Date(job.appliedDate) <= new Date(filters.dateTo)
-    );
-  }
-  
-  // Implement client-side pagination
-  const pageSize = 10; // Adjust based on your backend page size
-  const startIndex = page * pageSize;
-  const endIndex = startIndex + pageSize;
-  const paginatedJobs = filteredJobs.slice(startIndex, endIndex);
-  
-  // Return in the expected format
-  return {
-    content: paginatedJobs,
-    totalElements: filteredJobs.length,
-    totalPages: Math.ceil(filteredJobs.length / pageSize),
-    number: page,
-    size: pageSize
-  };
+  // Every filter combination is resolved server-side in a single paginated query
+  const params = new URLSearchParams({ page });
+  if (filters.status) params.append('status', filters.status);
+  if (filters.company) params.append('company', filters.company);
+  if (filters.dateFrom) params.append('from', filters.dateFrom);
+  if (filters.dateTo) params.append('to', filters.dateTo);
+
+  return apiRequest(`/jobs/search?${params.toString()}`);
 };
 
 export const getJobById = async (id) => {
   return apiRequest(`/jobs/${id}`);
 };
 
-export const updateJob = async (id, jobData) => {
+// with the version the form was loaded at, the server rejects the update (412) if someone changed the job since
+export const updateJob = async (id, jobData, version) => {
   return apiRequest(`/jobs/${id}`, {
     method: 'PUT',
+    headers: version == null ? {} : { 'If-Match': `"${version}"` },
     body: JSON.stringify(jobData),
   });
 };
 
+// JSON Merge Patch of just the given fields (companyName, jobRole, comment, status); null clears the comment
+export const patchJob = async (id, changes, version) => {
+  return apiRequest(`/jobs/${id}`, {
+    method: 'PATCH',
+    headers: {
+      'Content-Type': 'application/merge-patch+json',
+      ...(version == null ? {} : { 'If-Match': `"${version}"` }),
+    },
+    body: JSON.stringify(changes),
+  });
+};
+
 export const deleteJob = async (id) => {
   return apiRequest(`/jobs/${id}`, {
     method: 'DELETE',
@@ -220,17 +181,24 @@ export const deleteJob = async (id) => {
 };
 
 export const getJobsBetweenDates = async (from, to, page = 0) => {
-  return apiRequest(`/jobs/between?from=${from}&to=${to}`);
+  return apiRequest(`/jobs/between?from=${from}&to=${to}&page=${page}`);
 };
 
 export const getJobsByCompany = async (companyName, page = 0) => {
-  return apiRequest(`/jobs/company/${encodeURIComponent(companyName)}`);
+  return apiRequest(`/jobs/company/${encodeURIComponent(companyName)}?page=${page}`);
+};
+
+export const suggestCompanies = async (prefix) => {
+  return apiRequest(`/companies/suggest?prefix=${encodeURIComponent(prefix)}`);
 };
 
 export const getJobsByStatus = async (status, page = 0) => {
   return apiRequest(`/jobs?status=${status}`);
 };
 
+// Served by the backend (local storage) or redirected to the storage URL; sends the session cookie
+export const resumeDownloadUrl = (resumeId) => `${API_URL}/resumes/${resumeId}/download`;
+
 export const getUserDetails = async () => {
   return apiRequest('/user');
 };